@@ -1,12 +1,17 @@
 package com.hyfactions.enchanter;
 
 import com.hyfactions.enchanter.ability.AbilityManager;
+import com.hyfactions.enchanter.combat.DamagePipeline;
 import com.hyfactions.enchanter.command.*;
 import com.hyfactions.enchanter.config.ConfigManager;
 import com.hyfactions.enchanter.database.DatabaseManager;
 import com.hyfactions.enchanter.enchantment.EnchantmentManager;
 import com.hyfactions.enchanter.faction.FactionManager;
+import com.hyfactions.enchanter.harvest.HarvestManager;
 import com.hyfactions.enchanter.listener.*;
+import com.hyfactions.enchanter.session.SessionManager;
+import com.hyfactions.enchanter.tick.TickBudgetManager;
+import com.hyfactions.enchanter.util.ItemIdGenerator;
 import com.hyfactions.enchanter.util.MessageUtil;
 
 // Hytale API imports
@@ -38,7 +43,12 @@ public class HyFactionsEnchanter extends JavaPlugin {
     private EnchantmentManager enchantmentManager;
     private AbilityManager abilityManager;
     private FactionManager factionManager;
+    private SessionManager sessionManager;
+    private DamagePipeline damagePipeline;
+    private HarvestManager harvestManager;
+    private TickBudgetManager tickBudgetManager;
     private MessageUtil messageUtil;
+    private ItemIdGenerator itemIdGenerator;
 
     // Logger
     private final Logger logger;
@@ -129,6 +139,7 @@ public class HyFactionsEnchanter extends JavaPlugin {
         configManager.load();
 
         messageUtil = new MessageUtil(this);
+        itemIdGenerator = new ItemIdGenerator(configManager.getNodeId());
 
         logger.info("Configuration loaded successfully.");
     }
@@ -163,6 +174,18 @@ public class HyFactionsEnchanter extends JavaPlugin {
         abilityManager = new AbilityManager(this);
         abilityManager.loadAbilities();
 
+        // Initialize session manager
+        sessionManager = new SessionManager(this);
+
+        // Initialize damage pipeline
+        damagePipeline = new DamagePipeline(this);
+
+        // Initialize harvest manager
+        harvestManager = new HarvestManager(this);
+
+        // Initialize per-world tick budgets
+        tickBudgetManager = new TickBudgetManager(this);
+
         // Initialize faction manager (if factions are enabled)
         if (configManager.isFactionEnabled()) {
             factionManager = new FactionManager(this);
@@ -184,6 +207,7 @@ public class HyFactionsEnchanter extends JavaPlugin {
         new BlockListener(this).register(this.getEventRegistry());
         new ItemListener(this).register(this.getEventRegistry());
         new AbilityListener(this).register(this.getEventRegistry());
+        new WorldListener(this).register(this.getEventRegistry());
 
         // Faction listeners (if enabled)
         if (configManager.isFactionEnabled()) {
@@ -216,6 +240,7 @@ public class HyFactionsEnchanter extends JavaPlugin {
 
         // Reload configuration
         configManager.reload();
+        damagePipeline.reload();
 
         // Reload enchantments
         enchantmentManager.reloadEnchantments();
@@ -241,6 +266,14 @@ public class HyFactionsEnchanter extends JavaPlugin {
             enchantmentManager.shutdown();
         }
 
+        if (sessionManager != null) {
+            sessionManager.shutdown();
+        }
+
+        if (tickBudgetManager != null) {
+            tickBudgetManager.shutdown();
+        }
+
         // Close database connections
         if (databaseManager != null) {
             databaseManager.shutdown();
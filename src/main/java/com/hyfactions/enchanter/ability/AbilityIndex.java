@@ -0,0 +1,200 @@
+package com.hyfactions.enchanter.ability;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentManager;
+import com.hyfactions.enchanter.enchantment.EnchantmentType;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trigger x held item category to candidate abilities
+ *
+ * Built once per set of abilities; a lookup is one array read. Abilities
+ * bound to WEAPON or TOOL are only candidates while such an item is held;
+ * ARMOR and unbound abilities draw on worn armor and are candidates for
+ * any held item. Requirements are compiled per ability ordinal.
+ *
+ * Abilities with combo keys fire only through the combo automaton, never
+ * on their trigger alone.
+ *
+ * Also carries the abilities it was built from, so the manager publishes
+ * the registry and its index with one reference swap.
+ */
+public final class AbilityIndex {
+
+    private static final Candidate[] NO_CANDIDATES = new Candidate[0];
+    private static final InputKey[] NO_KEYS = new InputKey[0];
+
+    // One combination per subset of the held-item categories (ALL is never set)
+    private static final int CATEGORY_COMBINATIONS = 1 << EnchantmentType.ALL.ordinal();
+
+    public static final AbilityIndex EMPTY = new AbilityIndex(Map.of(), Map.of(), null);
+
+    // Upper-cased ability ID -> ability (immutable)
+    @Getter
+    private final Map<String, MagicalAbility> abilities;
+
+    // [trigger * CATEGORY_COMBINATIONS + held categories] -> candidates
+    private final Candidate[][] candidates;
+
+    // Ability ordinal -> compiled requirements
+    private final AbilityRequirements[] requirements;
+
+    // Every combo sequence
+    @Getter
+    private final ComboAutomaton combos;
+
+    private AbilityIndex(Map<String, MagicalAbility> abilities, Map<String, Integer> ordinals,
+                         EnchantmentManager enchantments) {
+        this.abilities = Map.copyOf(abilities);
+
+        int size = 0;
+        for (int ordinal : ordinals.values()) {
+            size = Math.max(size, ordinal + 1);
+        }
+
+        this.requirements = new AbilityRequirements[size];
+        Arrays.fill(requirements, AbilityRequirements.NONE);
+
+        List<Candidate> comboList = new ArrayList<>();
+        List<List<Candidate>> lists = new ArrayList<>();
+        for (int i = 0; i < AbilityTrigger.values().length * CATEGORY_COMBINATIONS; i++) {
+            lists.add(new ArrayList<>());
+        }
+
+        for (Map.Entry<String, MagicalAbility> entry : abilities.entrySet()) {
+            MagicalAbility ability = entry.getValue();
+            int ordinal = ordinals.get(entry.getKey());
+            AbilityRequirements compiled = AbilityRequirements.compile(ability.getRequiredEnchantments(), enchantments);
+            requirements[ordinal] = compiled;
+
+            if (compiled.isUnsatisfiable()) continue;
+
+            InputKey[] comboKeys = compileComboKeys(ability.getComboKeys());
+            if (comboKeys == null) continue;
+
+            int required = requiredCategory(ability.getItemType());
+            Candidate candidate = new Candidate(ability, ordinal, compiled, comboKeys, required);
+            if (comboKeys.length > 0) {
+                comboList.add(candidate);
+                continue;
+            }
+            if (ability.getTrigger() == null) continue;
+
+            int base = ability.getTrigger().ordinal() * CATEGORY_COMBINATIONS;
+            for (int held = 0; held < CATEGORY_COMBINATIONS; held++) {
+                if ((held & required) == required) {
+                    lists.get(base + held).add(candidate);
+                }
+            }
+        }
+
+        this.candidates = new Candidate[lists.size()][];
+        for (int i = 0; i < lists.size(); i++) {
+            List<Candidate> list = lists.get(i);
+            candidates[i] = list.isEmpty() ? NO_CANDIDATES : list.toArray(NO_CANDIDATES);
+        }
+        this.combos = comboList.isEmpty() ? ComboAutomaton.EMPTY : new ComboAutomaton(comboList);
+    }
+
+    /**
+     * Build the index for a set of abilities
+     *
+     * @param abilities Upper-cased ability ID -> ability
+     * @param ordinals  Upper-cased ability ID -> ordinal
+     */
+    public static AbilityIndex build(Map<String, MagicalAbility> abilities, Map<String, Integer> ordinals,
+                                     EnchantmentManager enchantments) {
+        return new AbilityIndex(abilities, ordinals, enchantments);
+    }
+
+    /**
+     * Get the abilities a trigger could fire with the given item held
+     *
+     * @param heldCategories Held item categories, see {@link EnchantmentType#categoriesOf(String)}
+     */
+    public Candidate[] getCandidates(AbilityTrigger trigger, int heldCategories) {
+        return candidates[trigger.ordinal() * CATEGORY_COMBINATIONS + (heldCategories & (CATEGORY_COMBINATIONS - 1))];
+    }
+
+    /**
+     * Get the compiled requirements of an ability
+     */
+    public AbilityRequirements getRequirements(int ordinal) {
+        return ordinal >= 0 && ordinal < requirements.length ? requirements[ordinal] : AbilityRequirements.NONE;
+    }
+
+    /**
+     * Resolve combo key names
+     *
+     * @return The keys, empty for no combo, or null if a key is unknown or the combo too long
+     */
+    private static InputKey[] compileComboKeys(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return NO_KEYS;
+        }
+        if (names.size() > ComboAutomaton.MAX_LENGTH) {
+            return null;
+        }
+
+        InputKey[] keys = new InputKey[names.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = InputKey.fromString(names.get(i));
+            if (keys[i] == null) {
+                return null;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Held item category an ability needs, as a category bit, or 0 for none
+     */
+    private static int requiredCategory(String itemType) {
+        if (itemType == null) {
+            return 0;
+        }
+
+        EnchantmentType type = EnchantmentType.fromString(itemType);
+        if (type == EnchantmentType.WEAPON || type == EnchantmentType.TOOL) {
+            return 1 << type.ordinal();
+        }
+        return 0;
+    }
+
+    /**
+     * An ability reachable from a trigger
+     */
+    @Getter
+    public static final class Candidate {
+        private final MagicalAbility ability;
+        private final int ordinal;
+        private final AbilityRequirements requirements;
+
+        // Key sequence for combo abilities, empty otherwise
+        private final InputKey[] comboKeys;
+
+        // Held item category bits the ability needs
+        private final int heldCategories;
+
+        private Candidate(MagicalAbility ability, int ordinal, AbilityRequirements requirements,
+                          InputKey[] comboKeys, int heldCategories) {
+            this.ability = ability;
+            this.ordinal = ordinal;
+            this.requirements = requirements;
+            this.comboKeys = comboKeys;
+            this.heldCategories = heldCategories;
+        }
+
+        /**
+         * Check if the held item suits the ability
+         */
+        public boolean acceptsHeld(int heldCategories) {
+            return (heldCategories & this.heldCategories) == this.heldCategories;
+        }
+    }
+}
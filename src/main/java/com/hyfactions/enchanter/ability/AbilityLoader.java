@@ -0,0 +1,315 @@
+package com.hyfactions.enchanter.ability;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.config.DefaultFiles;
+import com.hyfactions.enchanter.config.YamlReader;
+import com.hyfactions.enchanter.enchantment.EnchantmentManager;
+import com.hyfactions.enchanter.enchantment.EnchantmentType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads ability definitions from abilities.yml
+ *
+ * Each top-level section becomes a {@link MagicalAbility} whose effects are
+ * compiled into {@link EffectOperation}s. Triggers, item types, combo keys,
+ * targets, required enchantments and required abilities are all checked
+ * here, so nothing is looked up or validated when an ability is cast.
+ * Reads the data folder copy, saving the bundled default there on first load.
+ */
+public class AbilityLoader {
+
+    private static final String FILE_NAME = "abilities.yml";
+
+    // Keys with a dedicated field on MagicalAbility; anything else becomes a property
+    private static final Set<String> KNOWN_KEYS = Set.of("type", "tier", "display-name", "description",
+            "cooldown", "mana-cost", "required-enchantments", "required-abilities", "activation", "trigger",
+            "effects", "sound", "particle");
+
+    private final HyFactionsEnchanter plugin;
+
+    public AbilityLoader(HyFactionsEnchanter plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Read and compile every definition
+     * Sections that fail to parse or validate are logged and skipped.
+     *
+     * @return Upper-cased ability ID -> ability, in file order
+     * @throws IOException If the file cannot be read at all
+     */
+    public Map<String, MagicalAbility> load() throws IOException {
+        Map<String, Object> root;
+        try (Reader reader = open()) {
+            root = YamlReader.read(reader);
+        }
+
+        Map<String, MagicalAbility> abilities = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : root.entrySet()) {
+            String id = entry.getKey().toUpperCase();
+
+            if (!(entry.getValue() instanceof Map<?, ?> section)) {
+                plugin.getLogger().warning("Skipping ability " + id + ": not a section");
+                continue;
+            }
+
+            try {
+                abilities.put(id, parse(id, section));
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Skipping ability " + id + ": " + e.getMessage());
+            }
+        }
+
+        // Required abilities can only be checked once every section is read
+        abilities.values().removeIf(ability -> {
+            for (String required : ability.getRequiredAbilities()) {
+                if (!abilities.containsKey(required)) {
+                    plugin.getLogger().warning("Skipping ability " + ability.getId()
+                            + ": unknown required ability " + required);
+                    return true;
+                }
+            }
+            return false;
+        });
+        return abilities;
+    }
+
+    private Reader open() throws IOException {
+        return DefaultFiles.open(plugin, FILE_NAME);
+    }
+
+    /**
+     * Build a definition from one section
+     */
+    private MagicalAbility parse(String id, Map<?, ?> section) {
+        // Activation may be nested (active abilities) or a bare trigger (passives)
+        Map<?, ?> activation = section.get("activation") instanceof Map<?, ?> map ? map : Map.of();
+        Object triggerValue = activation.containsKey("trigger") ? activation.get("trigger") : section.get("trigger");
+
+        AbilityTrigger trigger = triggerValue != null ? enumValue(AbilityTrigger.class, triggerValue, "trigger") : null;
+        String itemType = stringValue(activation.get("item-type"), null);
+        if (itemType != null) {
+            itemType = enumValue(EnchantmentType.class, itemType, "item-type").name();
+        }
+
+        List<String> comboKeys = stringList(activation.get("combo-keys"));
+        if (comboKeys.size() > ComboAutomaton.MAX_LENGTH) {
+            throw new IllegalArgumentException("combo-keys longer than " + ComboAutomaton.MAX_LENGTH);
+        }
+        for (String key : comboKeys) {
+            if (InputKey.fromString(key) == null) {
+                throw new IllegalArgumentException("unknown combo key " + key);
+            }
+        }
+
+        // Anything we do not model is kept as a property
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : section.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            if (!KNOWN_KEYS.contains(key)) {
+                properties.put(key, entry.getValue());
+            }
+        }
+
+        return MagicalAbility.builder()
+                .id(id)
+                .displayName(stringValue(section.get("display-name"), id))
+                .description(stringList(section.get("description")))
+                .type(enumValue(AbilityType.class, stringValue(section.get("type"), "ACTIVE"), "type"))
+                .tier(stringValue(section.get("tier"), "COMMON").toUpperCase())
+                .cooldown(longValue(section.get("cooldown"), 0, "cooldown"))
+                .manaCost((int) longValue(section.get("mana-cost"), 0, "mana-cost"))
+                .requiredEnchantments(parseRequiredEnchantments(section.get("required-enchantments")))
+                .requiredAbilities(stringList(section.get("required-abilities")).stream().map(String::toUpperCase).toList())
+                .trigger(trigger)
+                .itemType(itemType)
+                .comboKeys(comboKeys)
+                .operations(parseEffects(section.get("effects")))
+                .sound(stringValue(section.get("sound"), null))
+                .particle(stringValue(section.get("particle"), null))
+                .properties(Collections.unmodifiableMap(properties))
+                .build();
+    }
+
+    /**
+     * Parse "ID:LEVEL" entries, checking each ID against the enchantment registry
+     */
+    private Map<String, Integer> parseRequiredEnchantments(Object value) {
+        Map<String, Integer> required = new LinkedHashMap<>();
+        for (String entry : stringList(value)) {
+            int colon = entry.lastIndexOf(':');
+            String enchantmentId = EnchantmentManager.normalizeId(colon >= 0 ? entry.substring(0, colon) : entry);
+            int level = 1;
+            if (colon >= 0) {
+                try {
+                    level = Integer.parseInt(entry.substring(colon + 1).trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("invalid level in required enchantment " + entry);
+                }
+            }
+
+            if (plugin.getEnchantmentManager().getOrdinal(enchantmentId) < 0) {
+                throw new IllegalArgumentException("unknown required enchantment " + enchantmentId);
+            }
+            required.put(enchantmentId, level);
+        }
+        return Collections.unmodifiableMap(required);
+    }
+
+    /**
+     * Compile the effect list
+     */
+    private EffectOperation[] parseEffects(Object value) {
+        if (!(value instanceof List<?> list)) {
+            return new EffectOperation[0];
+        }
+
+        EffectOperation[] operations = new EffectOperation[list.size()];
+        for (int i = 0; i < operations.length; i++) {
+            if (!(list.get(i) instanceof Map<?, ?> effect)) {
+                throw new IllegalArgumentException("effect " + (i + 1) + " is not a map");
+            }
+            operations[i] = parseEffect(effect);
+        }
+        return operations;
+    }
+
+    private EffectOperation parseEffect(Map<?, ?> effect) {
+        EffectType type = enumValue(EffectType.class, effect.get("type"), "effect type");
+
+        switch (type) {
+            case LIGHTNING:
+                return new EffectOperation.Lightning(number(effect, "range", 10), number(effect, "damage", 0),
+                        targets(effect, EffectOperation.Targets.ENEMY));
+            case PARTICLE:
+                return new EffectOperation.Particle(name(effect, "particle"), number(effect, "radius", 1));
+            case TELEPORT:
+                return new EffectOperation.Teleport(number(effect, "range", 10),
+                        Boolean.TRUE.equals(effect.get("behind-target")));
+            case INVISIBILITY:
+                return new EffectOperation.Invisibility(duration(effect));
+            case POTION:
+                return new EffectOperation.Potion(name(effect, "potion"), (int) number(effect, "amplifier", 0),
+                        duration(effect));
+            case HEAL:
+                return new EffectOperation.Heal(number(effect, "amount", 0), number(effect, "radius", 0),
+                        targets(effect, EffectOperation.Targets.SELF));
+            case FIREBALL:
+                return new EffectOperation.Fireball((int) number(effect, "count", 1), number(effect, "spread", 0),
+                        number(effect, "damage", 0));
+            case FIRE:
+                return new EffectOperation.Fire(duration(effect), number(effect, "radius", 1));
+            case FREEZE:
+                return new EffectOperation.Freeze(duration(effect), number(effect, "radius", 1),
+                        targets(effect, EffectOperation.Targets.ENEMY));
+            case PROJECTILE:
+                return new EffectOperation.Projectile(number(effect, "speed", 1), number(effect, "damage", 0),
+                        number(effect, "range", 20));
+            case HEAL_ON_HIT:
+                return new EffectOperation.HealOnHit(number(effect, "heal-percent", 0));
+            case AREA_DAMAGE:
+                return new EffectOperation.AreaDamage(number(effect, "radius", 1), number(effect, "damage", 0),
+                        targets(effect, EffectOperation.Targets.ENEMY));
+            case CHAIN_DAMAGE:
+                return new EffectOperation.ChainDamage((int) number(effect, "chains", 1), number(effect, "damage", 0),
+                        number(effect, "range", 8));
+            case DAMAGE_ABSORB:
+                return new EffectOperation.DamageAbsorb(number(effect, "absorb-percent", 0),
+                        number(effect, "mana-per-damage", 0));
+            case BONUS_DROPS:
+                return new EffectOperation.BonusDrops(number(effect, "multiplier", 1));
+            case REVIVE:
+                return new EffectOperation.Revive(number(effect, "health", 1));
+            case MULTI_ELEMENT:
+                List<EffectOperation.Element> elements = new ArrayList<>();
+                for (String element : stringList(effect.get("elements"))) {
+                    elements.add(enumValue(EffectOperation.Element.class, element, "element"));
+                }
+                return new EffectOperation.MultiElement(elements, number(effect, "damage", 0), number(effect, "radius", 1));
+            case DAMAGE_REDUCTION:
+                return new EffectOperation.DamageReduction(number(effect, "reduction-percent", 0), duration(effect));
+            case REFLECT_DAMAGE:
+                return new EffectOperation.ReflectDamage(number(effect, "reflect-percent", 0), duration(effect));
+            default:
+                throw new IllegalArgumentException("unsupported effect type " + type);
+        }
+    }
+
+    /**
+     * Duration in ticks; -1 (permanent while equipped) is kept as is
+     */
+    private static long duration(Map<?, ?> effect) {
+        double seconds = number(effect, "duration", 0);
+        return seconds < 0 ? -1 : (long) (seconds * AbilityManager.TICKS_PER_SECOND);
+    }
+
+    private static EffectOperation.Targets targets(Map<?, ?> effect, EffectOperation.Targets defaultValue) {
+        Object value = effect.get("targets");
+        return value != null ? enumValue(EffectOperation.Targets.class, value, "targets") : defaultValue;
+    }
+
+    private static double number(Map<?, ?> effect, String key, double defaultValue) {
+        Object value = effect.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!(value instanceof Number number)) {
+            throw new IllegalArgumentException(key + " must be a number, got " + value);
+        }
+        return number.doubleValue();
+    }
+
+    private static String name(Map<?, ?> effect, String key) {
+        String value = stringValue(effect.get(key), "").trim();
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(effect.get("type") + " effect needs " + key);
+        }
+        return value.toUpperCase();
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, Object value, String what) {
+        String name = String.valueOf(value).trim().toUpperCase();
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equals(name)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("unknown " + what + " " + value);
+    }
+
+    private static List<String> stringList(Object value) {
+        if (!(value instanceof List<?> list)) {
+            return List.of();
+        }
+
+        List<String> strings = new ArrayList<>(list.size());
+        for (Object item : list) {
+            if (item != null) {
+                strings.add(String.valueOf(item));
+            }
+        }
+        return Collections.unmodifiableList(strings);
+    }
+
+    private static String stringValue(Object value, String defaultValue) {
+        return value != null ? String.valueOf(value) : defaultValue;
+    }
+
+    private static long longValue(Object value, long defaultValue, String key) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!(value instanceof Number number)) {
+            throw new IllegalArgumentException(key + " must be a number, got " + value);
+        }
+        return number.longValue();
+    }
+}
@@ -1,33 +1,89 @@
 package com.hyfactions.enchanter.ability;
 
 import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.enchantment.Loadout;
+import com.hyfactions.enchanter.session.PlayerSession;
+import com.hyfactions.enchanter.tick.TimingWheel;
+import com.hyfactions.enchanter.util.EffectUtil;
+import com.hyfactions.enchanter.util.PlayerUtil;
+
+import com.hypixel.hytale.server.core.entity.entities.Player;
+
 import lombok.Getter;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages all magical abilities
  * Handles cooldowns, activation, and execution
+ *
+ * Everything that ends after a delay - active abilities, timed effects and
+ * "ability ready" notices - is a timer on one timing wheel, advanced once
+ * per tick, so nothing is ever scanned per player.
  */
 public class AbilityManager {
 
+    public static final int TICKS_PER_SECOND = 20;
+
+    private static final long NANOS_PER_TICK = CooldownStore.seconds(1) / TICKS_PER_SECOND;
+
     private final HyFactionsEnchanter plugin;
 
-    @Getter
-    private final Map<String, MagicalAbility> abilities;
+    // AbilityID -> ordinal, append-only so cooldown slots survive reloads
+    private final Map<String, Integer> ordinals;
 
-    // Cooldown tracking: PlayerUUID -> AbilityID -> ExpiryTime
-    private final Map<UUID, Map<String, Long>> cooldowns;
+    // Abilities and their trigger index, rebuilt off to the side and swapped in when abilities change
+    private volatile AbilityIndex index = AbilityIndex.EMPTY;
 
-    // Active abilities tracking
-    private final Map<UUID, Set<String>> activeAbilities;
+    // Serializes rebuilds; readers never take it
+    private final Object registrationLock = new Object();
+
+    // Global cooldown in cooldown clock units
+    private volatile long globalCooldownNanos;
+
+    // Input windows in ticks
+    private volatile long comboWindowTicks;
+    private volatile long comboStepTicks;
+    private volatile long doubleSneakWindowTicks;
+
+    // Mana settings, in cooldown clock units
+    private volatile boolean manaEnabled;
+    private volatile double maxMana;
+    private volatile double manaRegenPerNano;
+    private volatile long manaRegenDelayNanos;
+
+    // Effect ends, active ability expiry and ready notices
+    @Getter
+    private final TimingWheel timers;
+
+    private volatile boolean shuttingDown;
 
     public AbilityManager(HyFactionsEnchanter plugin) {
         this.plugin = plugin;
-        this.abilities = new ConcurrentHashMap<>();
-        this.cooldowns = new ConcurrentHashMap<>();
-        this.activeAbilities = new ConcurrentHashMap<>();
+        this.ordinals = new ConcurrentHashMap<>();
+        this.timers = new TimingWheel(plugin.getLogger());
+
+        scheduleTick();
+    }
+
+    /**
+     * Advance the timing wheel every tick
+     */
+    private void scheduleTick() {
+        if (shuttingDown) return;
+
+        plugin.getTaskRegistry().delayed(() -> {
+            try {
+                timers.tick();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Ability timer failed: " + e.getMessage());
+            } finally {
+                scheduleTick();
+            }
+        }, 1);
     }
 
     /**
@@ -36,75 +92,150 @@ public class AbilityManager {
     public void loadAbilities() {
         plugin.getLogger().info("Loading abilities...");
 
-        abilities.clear();
-        // Would load from abilities.yml
+        globalCooldownNanos = CooldownStore.seconds(plugin.getConfigManager().getGlobalCooldown());
+        comboWindowTicks = (long) (plugin.getConfigManager().getComboWindow() * TICKS_PER_SECOND);
+        comboStepTicks = Math.max(1, (long) (plugin.getConfigManager().getComboStepWindow() * TICKS_PER_SECOND));
+        doubleSneakWindowTicks = (long) (plugin.getConfigManager().getDoubleSneakWindow() * TICKS_PER_SECOND);
+        manaEnabled = plugin.getConfigManager().isManaSystemEnabled();
+        maxMana = plugin.getConfigManager().getMaxMana();
+        manaRegenPerNano = plugin.getConfigManager().getManaRegenRate() / CooldownStore.seconds(1);
+        manaRegenDelayNanos = CooldownStore.seconds(plugin.getConfigManager().getManaRegenDelay());
+
+        synchronized (registrationLock) {
+            try {
+                // Readers keep seeing the previous abilities until the new set is published
+                publish(new AbilityLoader(plugin).load());
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to load abilities, keeping current abilities: " + e.getMessage());
+                rebuildIndex();
+            }
+        }
 
-        plugin.getLogger().info("Loaded " + abilities.size() + " abilities.");
+        plugin.getLogger().info("Loaded " + getAbilityCount() + " abilities.");
     }
 
     /**
      * Register an ability
      */
     public void registerAbility(MagicalAbility ability) {
-        abilities.put(ability.getId().toUpperCase(), ability);
+        synchronized (registrationLock) {
+            Map<String, MagicalAbility> updated = new HashMap<>(index.getAbilities());
+            updated.put(ability.getId().toUpperCase(), ability);
+            publish(updated);
+        }
+    }
+
+    /**
+     * Recompile requirements and the trigger index
+     * Also needed after enchantments are reloaded, since requirements hold enchantment ordinals.
+     */
+    public void rebuildIndex() {
+        synchronized (registrationLock) {
+            publish(index.getAbilities());
+        }
+    }
+
+    /**
+     * Assign ordinals, build the index for a full set of abilities and swap it in
+     * Callers hold the registration lock.
+     */
+    private void publish(Map<String, MagicalAbility> abilities) {
+        for (String id : abilities.keySet()) {
+            ordinalFor(id);
+        }
+        index = AbilityIndex.build(abilities, Map.copyOf(ordinals), plugin.getEnchantmentManager());
+    }
+
+    /**
+     * Get all abilities, keyed by upper-cased ID (immutable)
+     */
+    public Map<String, MagicalAbility> getAbilities() {
+        return index.getAbilities();
+    }
+
+    /**
+     * Get the ordinal of an ability ID, assigning the next one if new
+     */
+    private int ordinalFor(String id) {
+        Integer ordinal = ordinals.get(id);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        synchronized (ordinals) {
+            return ordinals.computeIfAbsent(id, key -> ordinals.size());
+        }
+    }
+
+    /**
+     * Get the ordinal of an ability
+     *
+     * @return The ordinal, or -1 if the ability was never registered
+     */
+    public int getOrdinal(String abilityId) {
+        Integer ordinal = ordinals.get(abilityId.toUpperCase());
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Get a player's cooldowns
+     */
+    private CooldownStore getCooldowns(UUID playerUuid) {
+        return plugin.getSessionManager().getOrCreateSession(playerUuid).getCooldowns();
     }
 
     /**
      * Get an ability by ID
      */
     public MagicalAbility getAbility(String id) {
-        return abilities.get(id.toUpperCase());
+        return index.getAbilities().get(id.toUpperCase());
     }
 
     /**
      * Check if a player can use an ability (cooldown check)
      */
     public boolean canUseAbility(UUID playerUuid, String abilityId) {
-        if (!cooldowns.containsKey(playerUuid)) {
-            return true;
-        }
-
-        Map<String, Long> playerCooldowns = cooldowns.get(playerUuid);
-        if (!playerCooldowns.containsKey(abilityId)) {
-            return true;
-        }
+        int ordinal = getOrdinal(abilityId);
+        return ordinal < 0 || getCooldowns(playerUuid).isReady(ordinal, CooldownStore.now());
+    }
 
-        long expiryTime = playerCooldowns.get(abilityId);
-        return System.currentTimeMillis() >= expiryTime;
+    /**
+     * Check if a player can use an ability (cooldown check)
+     * Includes the global cooldown.
+     */
+    public boolean canUseAbility(PlayerSession session, int ordinal) {
+        return session.getCooldowns().isReady(ordinal, CooldownStore.now());
     }
 
     /**
      * Get remaining cooldown time in seconds
      */
     public long getRemainingCooldown(UUID playerUuid, String abilityId) {
-        if (!cooldowns.containsKey(playerUuid)) {
-            return 0;
-        }
-
-        Map<String, Long> playerCooldowns = cooldowns.get(playerUuid);
-        if (!playerCooldowns.containsKey(abilityId)) {
+        int ordinal = getOrdinal(abilityId);
+        if (ordinal < 0) {
             return 0;
         }
 
-        long expiryTime = playerCooldowns.get(abilityId);
-        long remaining = (expiryTime - System.currentTimeMillis()) / 1000;
-        return Math.max(0, remaining);
+        long remaining = getCooldowns(playerUuid).getRemainingNanos(ordinal, CooldownStore.now());
+        return TimeUnit.NANOSECONDS.toSeconds(remaining + CooldownStore.seconds(1) - 1);
     }
 
     /**
      * Set cooldown for a player's ability
      */
     public void setCooldown(UUID playerUuid, String abilityId, long cooldownSeconds) {
-        cooldowns.computeIfAbsent(playerUuid, k -> new ConcurrentHashMap<>())
-                .put(abilityId, System.currentTimeMillis() + (cooldownSeconds * 1000));
+        int ordinal = getOrdinal(abilityId);
+        if (ordinal >= 0) {
+            getCooldowns(playerUuid).start(ordinal, CooldownStore.now(), CooldownStore.seconds(cooldownSeconds));
+        }
     }
 
     /**
      * Clear a player's cooldown for an ability
      */
     public void clearCooldown(UUID playerUuid, String abilityId) {
-        if (cooldowns.containsKey(playerUuid)) {
-            cooldowns.get(playerUuid).remove(abilityId);
+        int ordinal = getOrdinal(abilityId);
+        if (ordinal >= 0) {
+            getCooldowns(playerUuid).clear(ordinal);
         }
     }
 
@@ -112,7 +243,10 @@ public class AbilityManager {
      * Clear all cooldowns for a player
      */
     public void clearAllCooldowns(UUID playerUuid) {
-        cooldowns.remove(playerUuid);
+        PlayerSession session = plugin.getSessionManager().getSession(playerUuid);
+        if (session != null) {
+            session.getCooldowns().clearAll();
+        }
     }
 
     /**
@@ -124,64 +258,287 @@ public class AbilityManager {
             return false;
         }
 
-        // Check cooldown
-        if (!canUseAbility(playerUuid, abilityId)) {
+        PlayerSession session = plugin.getSessionManager().getOrCreateSession(playerUuid);
+        return activate(session, getOrdinal(abilityId), ability, player);
+    }
+
+    /**
+     * Fire the first ability an input can activate
+     * Only abilities bound to the trigger and the held item are looked at.
+     *
+     * @return true if an ability was activated
+     */
+    public boolean tryActivate(Player player, AbilityTrigger trigger) {
+        PlayerSession session = plugin.getSessionManager().getOrCreateSession(PlayerUtil.getPlayerUUID(player));
+        Loadout loadout = session.getLoadout();
+
+        for (AbilityIndex.Candidate candidate : index.getCandidates(trigger, loadout.getHeldCategories())) {
+            if (activate(session, candidate.getOrdinal(), candidate.getAbility(), player)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Feed a player input to the gesture and combo recognizer
+     * A completed combo takes priority over the gesture's own trigger, and a
+     * gesture that may be a combo step waits until the combo resolves.
+     * Must be called from the player's world thread.
+     *
+     * @return true if an ability was activated
+     */
+    public boolean handleInput(Player player, InputKey key) {
+        PlayerSession session = plugin.getSessionManager().getOrCreateSession(PlayerUtil.getPlayerUUID(player));
+        InputRecognizer inputs = session.getInputs();
+        AbilityIndex current = index;
+
+        inputs.record(key, timers.getCurrentTick(), current.getCombos(), comboStepTicks, doubleSneakWindowTicks);
+
+        int heldCategories = session.getLoadout().getHeldCategories();
+        for (AbilityIndex.Candidate combo : current.getCombos().getMatches(inputs.getState())) {
+            if (combo.acceptsHeld(heldCategories)
+                    && inputs.fitsWindow(combo.getComboKeys().length, comboWindowTicks)
+                    && activate(session, combo.getOrdinal(), combo.getAbility(), player)) {
+                inputs.resetCombo();
+                return true;
+            }
+        }
+
+        // An earlier gesture the combo did not take after all
+        boolean activated = inputs.getReleased() != null
+                && fireGesture(session, current, inputs.getReleased(), player);
+
+        if (inputs.isDeferred()) {
+            scheduleGestureFlush(session, player);
+            return activated;
+        }
+        return fireGesture(session, current, inputs.getGesture(), player) || activated;
+    }
+
+    /**
+     * Fire the first ability a gesture can activate with the held item
+     */
+    private boolean fireGesture(PlayerSession session, AbilityIndex current, AbilityTrigger gesture, Player player) {
+        for (AbilityIndex.Candidate candidate : current.getCandidates(gesture, session.getLoadout().getHeldCategories())) {
+            if (activate(session, candidate.getOrdinal(), candidate.getAbility(), player)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fire a held back gesture if no combo key follows within the step window
+     * One timer per player, moved on every deferred input.
+     */
+    private void scheduleGestureFlush(PlayerSession session, Player player) {
+        TimingWheel.Timer timer = session.getGestureTimer();
+        if (timer == null) {
+            Runnable flush = () -> {
+                AbilityTrigger gesture = session.getInputs().takeExpired(timers.getCurrentTick(), comboStepTicks);
+                if (gesture != null) {
+                    fireGesture(session, index, gesture, player);
+                }
+            };
+            timer = timers.create(session.getPlayerUuid(), () -> player.getWorld().execute(flush));
+            session.setGestureTimer(timer);
+        }
+        timers.reschedule(timer, comboStepTicks);
+    }
+
+    /**
+     * Track a player's sneak state; starting to sneak counts as a SNEAK input
+     * Must be called from the player's world thread.
+     */
+    public void handleSneakToggle(Player player, boolean sneaking) {
+        PlayerSession session = plugin.getSessionManager().getOrCreateSession(PlayerUtil.getPlayerUUID(player));
+        session.getInputs().setSneaking(sneaking);
+        if (sneaking) {
+            handleInput(player, InputKey.SNEAK);
+        }
+    }
+
+    /**
+     * Check if a player's equipped enchantments meet an ability's requirements
+     */
+    public boolean hasRequirements(MagicalAbility ability, Object player) {
+        if (!(player instanceof Player p)) {
+            return false;
+        }
+
+        Loadout loadout = plugin.getSessionManager().getLoadout(PlayerUtil.getPlayerUUID(p));
+        return index.getRequirements(getOrdinal(ability.getId())).matches(loadout.getPeak());
+    }
+
+    private boolean activate(PlayerSession session, int ordinal, MagicalAbility ability, Object player) {
+        // Check cooldown - one clock read, two array reads
+        CooldownStore cooldowns = session.getCooldowns();
+        long now = CooldownStore.now();
+        if (!cooldowns.isReady(ordinal, now)) {
+            return false;
+        }
+
+        // Check requirements against single-item levels - a mask test and a few level compares
+        if (!index.getRequirements(ordinal).matches(session.getLoadout().getPeak())) {
             return false;
         }
 
-        // Check requirements
-        if (!ability.hasRequirements(player)) {
+        // Check and spend mana in one step
+        if (manaEnabled && ability.getManaCost() > 0 && !plugin.getConfigManager().isTestingMode()
+                && !session.getMana().trySpend(ability.getManaCost(), now, maxMana, manaRegenPerNano, manaRegenDelayNanos)) {
             return false;
         }
 
         // Execute ability effects
         executeAbility(ability, player);
 
-        // Set cooldown
+        // Set cooldowns
         if (ability.getCooldown() > 0) {
-            setCooldown(playerUuid, abilityId, ability.getCooldown());
+            cooldowns.start(ordinal, now, CooldownStore.seconds(ability.getCooldown()));
+        }
+        if (globalCooldownNanos > 0) {
+            cooldowns.startGlobal(now, globalCooldownNanos);
         }
 
-        // Track active ability
-        activeAbilities.computeIfAbsent(playerUuid, k -> ConcurrentHashMap.newKeySet())
-                .add(abilityId);
+        // Track active ability and schedule its timed effects
+        scheduleEffects(session, ordinal, ability, player);
+        if (ability.getCooldown() > 0 && plugin.getConfigManager().isNotifyAbilityReady()) {
+            scheduleReadyNotice(session, ordinal, ability, player);
+        }
 
         return true;
     }
 
     /**
-     * Execute ability effects
+     * Schedule the end of each timed effect and mark the ability active until the last one ends
      */
-    private void executeAbility(MagicalAbility ability, Object player) {
-        // Would execute each effect based on its type
-        for (AbilityEffect effect : ability.getEffects()) {
-            executeEffect(effect, player);
+    private void scheduleEffects(PlayerSession session, int ordinal, MagicalAbility ability, Object player) {
+        UUID playerUuid = session.getPlayerUuid();
+        long longest = 0;
+
+        for (EffectOperation operation : ability.getOperations()) {
+            long ticks = operation.durationTicks();
+            if (ticks <= 0) continue;
+
+            longest = Math.max(longest, ticks);
+            if (player instanceof Player p) {
+                timers.schedule(ticks, playerUuid, () -> p.getWorld().execute(() -> operation.end(p)));
+            }
         }
 
-        // Play sound
-        if (ability.getSound() != null) {
-            // Play sound effect
+        if (longest == 0) {
+            // Instant ability, nothing stays active
+            return;
+        }
+
+        // A re-activation replaces the end tick, so the older timer no longer matches
+        Long until = timers.getCurrentTick() + longest;
+        session.getActiveAbilities().put(ordinal, until);
+        timers.schedule(longest, playerUuid, () -> session.getActiveAbilities().remove(ordinal, until));
+    }
+
+    /**
+     * Tell the player when an ability comes off cooldown
+     */
+    private void scheduleReadyNotice(PlayerSession session, int ordinal, MagicalAbility ability, Object player) {
+        if (!(player instanceof Player p)) return;
+
+        long deadline = session.getCooldowns().getDeadline(ordinal);
+        scheduleReadyNotice(session, ordinal, ability, p, deadline, deadline - CooldownStore.now());
+    }
+
+    /**
+     * Wait out the rest of a cooldown; ticks and the cooldown clock drift apart, so an early timer waits again
+     */
+    private void scheduleReadyNotice(PlayerSession session, int ordinal, MagicalAbility ability, Player player,
+                                     long deadline, long remainingNanos) {
+        long ticks = (remainingNanos + NANOS_PER_TICK - 1) / NANOS_PER_TICK;
+        timers.schedule(ticks, session.getPlayerUuid(), () -> player.getWorld().execute(() -> {
+            CooldownStore cooldowns = session.getCooldowns();
+            // Skip if the cooldown was restarted or cleared in the meantime
+            if (cooldowns.getDeadline(ordinal) != deadline) return;
+
+            long remaining = deadline - CooldownStore.now();
+            if (remaining > 0) {
+                scheduleReadyNotice(session, ordinal, ability, player, deadline, remaining);
+                return;
+            }
+
+            PlayerUtil.sendMessage(player, plugin.getMessageUtil().getMessage("ability-ready",
+                    "ability", ability.getDisplayName()));
+        }));
+    }
+
+    /**
+     * Get a player's current mana
+     * Worked out from the last spend, so reading it costs nothing per tick.
+     */
+    public double getMana(UUID playerUuid) {
+        PlayerSession session = plugin.getSessionManager().getSession(playerUuid);
+        if (session == null) {
+            return maxMana;
         }
+        return session.getMana().getMana(CooldownStore.now(), maxMana, manaRegenPerNano);
     }
 
     /**
-     * Execute a single ability effect
+     * Get the mana pool size
      */
-    private void executeEffect(AbilityEffect effect, Object player) {
-        switch (effect.getType()) {
-            case LIGHTNING:
-                // Execute lightning strike
-                break;
-            case HEAL:
-                // Execute healing
-                break;
-            case TELEPORT:
-                // Execute teleport
-                break;
-            case POTION:
-                // Apply potion effect
-                break;
-            // ... other effect types
+    public double getMaxMana() {
+        return maxMana;
+    }
+
+    /**
+     * Check if the mana system is enabled
+     */
+    public boolean isManaEnabled() {
+        return manaEnabled;
+    }
+
+    /**
+     * Refill a player's mana
+     */
+    public void refillMana(UUID playerUuid) {
+        PlayerSession session = plugin.getSessionManager().getSession(playerUuid);
+        if (session != null) {
+            session.getMana().refill();
+        }
+    }
+
+    /**
+     * Check if an ability is still active for a player
+     */
+    public boolean isAbilityActive(UUID playerUuid, String abilityId) {
+        PlayerSession session = plugin.getSessionManager().getSession(playerUuid);
+        int ordinal = getOrdinal(abilityId);
+        return session != null && ordinal >= 0 && session.getActiveAbilities().containsKey(ordinal);
+    }
+
+    /**
+     * Drop a player's pending timers
+     * Call on disconnect, before the session is removed.
+     */
+    public void handleDisconnect(UUID playerUuid) {
+        timers.cancelAll(playerUuid);
+    }
+
+    /**
+     * Execute ability effects
+     * Runs the compiled operations in order; no parameter lookups at cast time.
+     */
+    private void executeAbility(MagicalAbility ability, Object player) {
+        if (!(player instanceof Player p)) {
+            return;
+        }
+
+        for (EffectOperation operation : ability.getOperations()) {
+            operation.apply(p);
+        }
+
+        // Play sound
+        if (ability.getSound() != null) {
+            EffectUtil.playSoundForPlayer(p, ability.getSound(), 1.0f, 1.0f);
         }
     }
 
@@ -189,21 +546,21 @@ public class AbilityManager {
      * Get total ability count
      */
     public int getAbilityCount() {
-        return abilities.size();
+        return index.getAbilities().size();
     }
 
     /**
      * Get all ability IDs
      */
     public Set<String> getAbilityIds() {
-        return new HashSet<>(abilities.keySet());
+        return new HashSet<>(index.getAbilities().keySet());
     }
 
     /**
      * Get abilities by type
      */
     public List<MagicalAbility> getAbilitiesByType(AbilityType type) {
-        return abilities.values().stream()
+        return index.getAbilities().values().stream()
                 .filter(a -> a.getType() == type)
                 .toList();
     }
@@ -221,8 +578,7 @@ public class AbilityManager {
      */
     public void shutdown() {
         plugin.getLogger().info("Shutting down ability manager...");
-        cooldowns.clear();
-        activeAbilities.clear();
-        abilities.clear();
+        shuttingDown = true;
+        index = AbilityIndex.EMPTY;
     }
 }
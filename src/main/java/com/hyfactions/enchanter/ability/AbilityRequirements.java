@@ -0,0 +1,98 @@
+package com.hyfactions.enchanter.ability;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentManager;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An ability's required enchantments, compiled against the registry
+ *
+ * Enchantment IDs are resolved to ordinals once; a check is a mask test
+ * against the loadout followed by one level compare per requirement.
+ */
+public final class AbilityRequirements {
+
+    public static final AbilityRequirements NONE = new AbilityRequirements(0, new int[0], new byte[0], false);
+
+    // Required ordinals below 64
+    private final long mask;
+
+    // Required ordinals and their minimum levels
+    private final int[] ordinals;
+    private final byte[] minLevels;
+
+    // True if a required enchantment is not registered
+    private final boolean unsatisfiable;
+
+    private AbilityRequirements(long mask, int[] ordinals, byte[] minLevels, boolean unsatisfiable) {
+        this.mask = mask;
+        this.ordinals = ordinals;
+        this.minLevels = minLevels;
+        this.unsatisfiable = unsatisfiable;
+    }
+
+    /**
+     * Compile an ability's required enchantments
+     */
+    public static AbilityRequirements compile(Map<String, Integer> required, EnchantmentManager enchantments) {
+        if (required == null || required.isEmpty()) {
+            return NONE;
+        }
+
+        long mask = 0;
+        int[] ordinals = new int[required.size()];
+        byte[] minLevels = new byte[required.size()];
+        boolean unsatisfiable = false;
+        int count = 0;
+
+        for (Map.Entry<String, Integer> entry : required.entrySet()) {
+            int ordinal = enchantments.getOrdinal(entry.getKey());
+            if (ordinal < 0) {
+                unsatisfiable = true;
+                continue;
+            }
+
+            if (ordinal < 64) {
+                mask |= 1L << ordinal;
+            }
+            ordinals[count] = ordinal;
+            minLevels[count] = (byte) Math.min(Math.max(entry.getValue(), 1), Byte.MAX_VALUE);
+            count++;
+        }
+
+        if (count < ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, count);
+            minLevels = Arrays.copyOf(minLevels, count);
+        }
+        return new AbilityRequirements(mask, ordinals, minLevels, unsatisfiable);
+    }
+
+    /**
+     * Check if a set of equipped enchantments meets the requirements
+     * Pass {@link com.hyfactions.enchanter.enchantment.Loadout#getPeak()} so a level has to be on one item.
+     */
+    public boolean matches(EnchantmentSet equipped) {
+        if (unsatisfiable) {
+            return false;
+        }
+        if ((equipped.mask() & mask) != mask) {
+            return false;
+        }
+
+        for (int i = 0; i < ordinals.length; i++) {
+            if (equipped.levelOf(ordinals[i]) < minLevels[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if a required enchantment is missing from the registry
+     */
+    public boolean isUnsatisfiable() {
+        return unsatisfiable;
+    }
+}
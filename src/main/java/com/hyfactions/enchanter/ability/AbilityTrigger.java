@@ -7,6 +7,7 @@ public enum AbilityTrigger {
     SNEAK_RIGHT_CLICK,
     DOUBLE_SNEAK,
     ENTITY_DAMAGE,
+    ENTITY_DAMAGED,
     ENTITY_DAMAGED_BY_ENTITY,
     ENTITY_DEATH,
     PLAYER_DEATH,
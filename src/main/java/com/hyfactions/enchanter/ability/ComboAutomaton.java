@@ -0,0 +1,153 @@
+package com.hyfactions.enchanter.ability;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Every combo sequence compiled into one automaton
+ *
+ * An Aho-Corasick trie over {@link InputKey}s with its failure links folded
+ * into a full transition table, so each input is one array read whatever
+ * the number of combos, and a combo is recognised even when it starts in
+ * the middle of other input. State 0 is the start state.
+ */
+public final class ComboAutomaton {
+
+    // Longest combo accepted; bounded by the input history kept per player
+    public static final int MAX_LENGTH = InputRecognizer.HISTORY;
+
+    private static final int KEYS = InputKey.values().length;
+
+    private static final AbilityIndex.Candidate[] NO_MATCHES = new AbilityIndex.Candidate[0];
+
+    public static final ComboAutomaton EMPTY = new ComboAutomaton(List.of());
+
+    // [state * KEYS + key] -> next state
+    private final int[] transitions;
+
+    // State -> combos ending in that state, longest first
+    private final AbilityIndex.Candidate[][] matches;
+
+    // State -> keys matched so far along the longest combo prefix it stands for
+    private final byte[] depth;
+
+    // State -> true if a combo can still be completed from it; never true for state 0
+    private final boolean[] continues;
+
+    ComboAutomaton(List<AbilityIndex.Candidate> combos) {
+        // Build the trie
+        List<int[]> children = new ArrayList<>();
+        List<List<AbilityIndex.Candidate>> outputs = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        children.add(newNode());
+        outputs.add(new ArrayList<>());
+        depths.add(0);
+
+        for (AbilityIndex.Candidate combo : combos) {
+            int state = 0;
+            for (InputKey key : combo.getComboKeys()) {
+                int next = children.get(state)[key.ordinal()];
+                if (next < 0) {
+                    next = children.size();
+                    children.get(state)[key.ordinal()] = next;
+                    children.add(newNode());
+                    outputs.add(new ArrayList<>());
+                    depths.add(depths.get(state) + 1);
+                }
+                state = next;
+            }
+            outputs.get(state).add(combo);
+        }
+
+        // Fold failure links into the transitions, breadth first
+        int states = children.size();
+        int[] transitions = new int[states * KEYS];
+        int[] failure = new int[states];
+        boolean[] continues = new boolean[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        for (int key = 0; key < KEYS; key++) {
+            int child = children.get(0)[key];
+            transitions[key] = Math.max(child, 0);
+            if (child > 0) {
+                queue.add(child);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            // Combos ending at the failure state end here too, and combos going on from it go on from here
+            outputs.get(state).addAll(outputs.get(failure[state]));
+            continues[state] = failure[state] != 0 && continues[failure[state]];
+
+            for (int key = 0; key < KEYS; key++) {
+                int child = children.get(state)[key];
+                int fallback = transitions[failure[state] * KEYS + key];
+                if (child > 0) {
+                    continues[state] = true;
+                    failure[child] = fallback;
+                    transitions[state * KEYS + key] = child;
+                    queue.add(child);
+                } else {
+                    transitions[state * KEYS + key] = fallback;
+                }
+            }
+        }
+
+        this.transitions = transitions;
+        this.matches = new AbilityIndex.Candidate[states][];
+        this.continues = continues;
+        this.depth = new byte[states];
+        for (int state = 0; state < states; state++) {
+            depth[state] = (byte) (int) depths.get(state);
+
+            List<AbilityIndex.Candidate> output = outputs.get(state);
+            output.sort((a, b) -> Integer.compare(b.getComboKeys().length, a.getComboKeys().length));
+            matches[state] = output.isEmpty() ? NO_MATCHES : output.toArray(NO_MATCHES);
+        }
+    }
+
+    private static int[] newNode() {
+        int[] node = new int[KEYS];
+        Arrays.fill(node, -1);
+        return node;
+    }
+
+    /**
+     * Advance by one input
+     */
+    public int next(int state, InputKey key) {
+        return transitions[state * KEYS + key.ordinal()];
+    }
+
+    /**
+     * Get the combos completed on reaching a state, longest first
+     */
+    public AbilityIndex.Candidate[] getMatches(int state) {
+        return matches[state];
+    }
+
+    /**
+     * Check if some combo can still be completed from a state
+     */
+    public boolean hasContinuation(int state) {
+        return continues[state];
+    }
+
+    /**
+     * Number of latest inputs a state stands for
+     * From 2 on, the input before the last one is part of a combo in progress.
+     */
+    public int getDepth(int state) {
+        return depth[state];
+    }
+
+    /**
+     * Number of states
+     */
+    public int size() {
+        return matches.length;
+    }
+}
@@ -0,0 +1,114 @@
+package com.hyfactions.enchanter.ability;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A player's ability cooldowns
+ *
+ * Deadlines are kept in a long[] indexed by ability ordinal, with slot 0
+ * holding the global cooldown. Times come from a monotonic clock, so a
+ * check is an array read and a compare - no boxing, no map lookups and
+ * no wall clock. Written from the player's world thread.
+ */
+public final class CooldownStore {
+
+    // Slot of the global cooldown
+    public static final int GLOBAL = 0;
+
+    // Clock origin, so every deadline is positive and 0 means "no cooldown"
+    private static final long ORIGIN = System.nanoTime() - 1;
+
+    // Deadline per slot, ability ordinal + 1
+    private volatile long[] deadlines;
+
+    public CooldownStore(int abilityCapacity) {
+        this.deadlines = new long[abilityCapacity + 1];
+    }
+
+    /**
+     * Current time on the cooldown clock
+     */
+    public static long now() {
+        return System.nanoTime() - ORIGIN;
+    }
+
+    /**
+     * Check if an ability is off cooldown, including the global cooldown
+     */
+    public boolean isReady(int abilityOrdinal, long now) {
+        long[] current = deadlines;
+        int slot = abilityOrdinal + 1;
+        return current[GLOBAL] <= now && (slot >= current.length || current[slot] <= now);
+    }
+
+    /**
+     * Remaining cooldown of an ability, ignoring the global cooldown
+     */
+    public long getRemainingNanos(int abilityOrdinal, long now) {
+        long[] current = deadlines;
+        int slot = abilityOrdinal + 1;
+        return slot < current.length ? Math.max(0, current[slot] - now) : 0;
+    }
+
+    /**
+     * Deadline of an ability's cooldown on the cooldown clock, 0 if it never started
+     */
+    public long getDeadline(int abilityOrdinal) {
+        long[] current = deadlines;
+        int slot = abilityOrdinal + 1;
+        return slot < current.length ? current[slot] : 0;
+    }
+
+    /**
+     * Remaining global cooldown
+     */
+    public long getGlobalRemainingNanos(long now) {
+        return Math.max(0, deadlines[GLOBAL] - now);
+    }
+
+    /**
+     * Start an ability's cooldown
+     */
+    public void start(int abilityOrdinal, long now, long durationNanos) {
+        int slot = abilityOrdinal + 1;
+        long[] current = deadlines;
+        if (slot >= current.length) {
+            current = Arrays.copyOf(current, Math.max(slot + 1, current.length * 2));
+            deadlines = current;
+        }
+        current[slot] = now + durationNanos;
+    }
+
+    /**
+     * Start the global cooldown
+     */
+    public void startGlobal(long now, long durationNanos) {
+        deadlines[GLOBAL] = now + durationNanos;
+    }
+
+    /**
+     * Clear an ability's cooldown
+     */
+    public void clear(int abilityOrdinal) {
+        long[] current = deadlines;
+        int slot = abilityOrdinal + 1;
+        if (slot < current.length) {
+            current[slot] = 0;
+        }
+    }
+
+    /**
+     * Clear every cooldown, including the global one
+     */
+    public void clearAll() {
+        Arrays.fill(deadlines, 0);
+    }
+
+    /**
+     * Convert seconds to cooldown clock units
+     */
+    public static long seconds(double seconds) {
+        return (long) (seconds * TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,239 @@
+package com.hyfactions.enchanter.ability;
+
+import com.hyfactions.enchanter.util.EffectUtil;
+import com.hyfactions.enchanter.util.PlayerUtil;
+
+import com.hypixel.hytale.server.core.entity.entities.Player;
+
+import java.util.List;
+
+/**
+ * One compiled step of an ability
+ *
+ * Built from an abilities.yml effect once, at load time, with every
+ * parameter already parsed and checked, so casting an ability walks an
+ * array of these without touching a map. Operations run on the caster's
+ * world thread.
+ */
+public sealed interface EffectOperation {
+
+    /**
+     * Apply the effect for the caster
+     */
+    void apply(Player player);
+
+    /**
+     * Ticks until {@link #end(Player)} runs; 0 for instant effects, -1 for effects lasting while equipped
+     */
+    default long durationTicks() {
+        return 0;
+    }
+
+    /**
+     * Undo the effect once its duration is over
+     */
+    default void end(Player player) {
+    }
+
+    /**
+     * Who an effect reaches
+     */
+    enum Targets {
+        SELF, ALLY, ENEMY, ALL;
+
+        public boolean includesSelf() {
+            return this == SELF || this == ALLY || this == ALL;
+        }
+    }
+
+    /**
+     * Elements combined by a multi-element strike
+     */
+    enum Element {
+        FIRE, ICE, LIGHTNING
+    }
+
+    record Lightning(double range, double damage, Targets targets) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Strike the nearest target within range
+            // LivingEntity target = TargetUtil.nearest(player, range, targets);
+            // EffectUtil.strikeLightning(player.getWorld(), target.getPosition());
+            // target.damage(damage, player);
+        }
+    }
+
+    record Particle(String particle, double radius) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            EffectUtil.spawnParticleAroundPlayer(player, particle, (int) Math.max(8, radius * 8), radius);
+        }
+    }
+
+    record Teleport(double range, boolean behindTarget) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Position destination = behindTarget
+            //         ? TargetUtil.behind(TargetUtil.nearest(player, range, Targets.ENEMY))
+            //         : TargetUtil.lookTarget(player, range);
+            // PlayerUtil.teleportPlayer(player, destination);
+        }
+    }
+
+    record Invisibility(long durationTicks) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // player.setInvisible(true);
+        }
+
+        @Override
+        public void end(Player player) {
+            // player.setInvisible(false);
+        }
+    }
+
+    record Potion(String potion, int amplifier, long durationTicks) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            int seconds = durationTicks < 0 ? -1 : (int) (durationTicks / AbilityManager.TICKS_PER_SECOND);
+            PlayerUtil.applyEffect(player, potion, seconds, amplifier);
+        }
+
+        @Override
+        public void end(Player player) {
+            PlayerUtil.removeEffect(player, potion);
+        }
+    }
+
+    record Heal(double amount, double radius, Targets targets) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            if (targets.includesSelf()) {
+                PlayerUtil.healPlayer(player, amount);
+            }
+            // Heal other targets within radius
+            // for (Player other : TargetUtil.players(player, radius, targets)) PlayerUtil.healPlayer(other, amount);
+        }
+    }
+
+    record Fireball(int count, double spread, double damage) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Launch count fireballs spread over the given angle
+            // for (int i = 0; i < count; i++) ProjectileUtil.fireball(player, spread, damage);
+        }
+    }
+
+    record Fire(long durationTicks, double radius) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Ignite the ground around the caster
+            // FireUtil.ignite(player.getWorld(), PlayerUtil.getPosition(player), radius);
+        }
+
+        @Override
+        public void end(Player player) {
+            // Extinguish the burning area
+            // FireUtil.extinguish(player.getWorld(), PlayerUtil.getPosition(player), radius);
+        }
+    }
+
+    record Freeze(long durationTicks, double radius, Targets targets) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Root targets within radius in place
+            // for (LivingEntity target : TargetUtil.entities(player, radius, targets)) target.setFrozen(true);
+        }
+
+        @Override
+        public void end(Player player) {
+            // Release frozen targets
+        }
+    }
+
+    record Projectile(double speed, double damage, double range) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // ProjectileUtil.launch(player, speed, damage, range);
+        }
+    }
+
+    record HealOnHit(double healPercent) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Reactive: the hit dispatch heals healPercent of the damage dealt
+        }
+    }
+
+    record AreaDamage(double radius, double damage, Targets targets) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // for (LivingEntity target : TargetUtil.entities(player, radius, targets)) target.damage(damage, player);
+        }
+    }
+
+    record ChainDamage(int chains, double damage, double range) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Jump from the struck target to up to chains more enemies within range
+        }
+    }
+
+    record DamageAbsorb(double absorbPercent, double manaPerDamage) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Reactive: the defense dispatch absorbs absorbPercent of incoming damage for mana
+        }
+    }
+
+    record BonusDrops(double multiplier) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Reactive: the harvest batch multiplies drops by multiplier
+        }
+    }
+
+    record Revive(double health) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Reactive: cancel the death and restore health
+            // player.setHealth(health);
+        }
+    }
+
+    record MultiElement(List<Element> elements, double damage, double radius) implements EffectOperation {
+        public MultiElement {
+            elements = List.copyOf(elements);
+        }
+
+        @Override
+        public void apply(Player player) {
+            // One strike per element on every enemy within radius
+            // for (Element element : elements) ElementUtil.strike(player, element, damage, radius);
+        }
+    }
+
+    record DamageReduction(double reductionPercent, long durationTicks) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Mark the caster's session so incoming damage is reduced until end()
+        }
+
+        @Override
+        public void end(Player player) {
+            // Clear the reduction
+        }
+    }
+
+    record ReflectDamage(double reflectPercent, long durationTicks) implements EffectOperation {
+        @Override
+        public void apply(Player player) {
+            // Mark the caster's session so attackers take reflectPercent of their damage until end()
+        }
+
+        @Override
+        public void end(Player player) {
+            // Clear the reflection
+        }
+    }
+}
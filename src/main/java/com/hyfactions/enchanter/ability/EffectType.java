@@ -0,0 +1,11 @@
+package com.hyfactions.enchanter.ability;
+
+/**
+ * Effect types an ability can list in abilities.yml
+ */
+public enum EffectType {
+    LIGHTNING, PARTICLE, TELEPORT, INVISIBILITY, POTION,
+    HEAL, FIREBALL, FIRE, FREEZE, PROJECTILE,
+    HEAL_ON_HIT, AREA_DAMAGE, CHAIN_DAMAGE, DAMAGE_ABSORB,
+    BONUS_DROPS, REVIVE, MULTI_ELEMENT, DAMAGE_REDUCTION, REFLECT_DAMAGE
+}
@@ -0,0 +1,26 @@
+package com.hyfactions.enchanter.ability;
+
+/**
+ * Player inputs that make up gestures and combos
+ */
+public enum InputKey {
+    SNEAK,
+    RIGHT_CLICK,
+    LEFT_CLICK;
+
+    private static final InputKey[] VALUES = values();
+
+    /**
+     * Get key from string name
+     *
+     * @return The key, or null if unknown
+     */
+    public static InputKey fromString(String name) {
+        for (InputKey key : VALUES) {
+            if (key.name().equalsIgnoreCase(name)) {
+                return key;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,184 @@
+package com.hyfactions.enchanter.ability;
+
+/**
+ * Turns a player's raw inputs into gestures and combo progress
+ *
+ * The last {@link #HISTORY} inputs are kept in a ring buffer with the tick
+ * they happened on, and the position in the combo automaton is a single
+ * int, so recording an input allocates nothing. Confined to the player's
+ * world thread.
+ *
+ * A gesture made while a combo could still be completed is held back, so
+ * it cannot start the global cooldown under the combo. It is dropped if
+ * the next input carries the combo on, and released if the next input
+ * breaks it or none comes within the step window.
+ */
+public final class InputRecognizer {
+
+    // Inputs remembered; also the longest combo that can be checked
+    public static final int HISTORY = 16;
+
+    private static final int MASK = HISTORY - 1;
+
+    // Ring buffer of key ordinals and their ticks
+    private final byte[] keys = new byte[HISTORY];
+    private final long[] ticks = new long[HISTORY];
+    private int head;
+    private int count;
+
+    // Automaton the state below belongs to
+    private ComboAutomaton automaton = ComboAutomaton.EMPTY;
+    private int state;
+
+    // Tick of the last sneak that was not already part of a double sneak
+    private long lastSneakTick = Long.MIN_VALUE;
+    private boolean sneaking;
+
+    // Results of the last record() call
+    private AbilityTrigger gesture;
+    private boolean deferred;
+    private AbilityTrigger released;
+
+    // Gesture held back as a possible combo step, or null
+    private AbilityTrigger pending;
+
+    /**
+     * Record an input
+     * Afterwards {@link #getGesture()}, {@link #isDeferred()}, {@link #getReleased()}
+     * and {@link #getState()} describe it.
+     *
+     * @param stepWindow        Ticks allowed between two keys of a combo
+     * @param doubleSneakWindow Ticks between the two sneaks of a double sneak
+     */
+    public void record(InputKey key, long tick, ComboAutomaton combos, long stepWindow, long doubleSneakWindow) {
+        released = null;
+
+        // Start over if the combos were rebuilt or the player paused too long
+        boolean paused = count > 0 && tick - ticks[(head - 1) & MASK] > stepWindow;
+        if (combos != automaton || paused) {
+            automaton = combos;
+            state = 0;
+            released = pending;
+            pending = null;
+        }
+
+        keys[head] = (byte) key.ordinal();
+        ticks[head] = tick;
+        head = (head + 1) & MASK;
+        count = Math.min(count + 1, HISTORY);
+        state = combos.next(state, key);
+
+        switch (key) {
+            case SNEAK:
+                if (lastSneakTick != Long.MIN_VALUE && tick - lastSneakTick <= doubleSneakWindow) {
+                    gesture = AbilityTrigger.DOUBLE_SNEAK;
+                    // A third sneak starts a new pair
+                    lastSneakTick = Long.MIN_VALUE;
+                } else {
+                    gesture = AbilityTrigger.SNEAK;
+                    lastSneakTick = tick;
+                }
+                break;
+            case RIGHT_CLICK:
+                gesture = sneaking ? AbilityTrigger.SNEAK_RIGHT_CLICK : AbilityTrigger.RIGHT_CLICK;
+                break;
+            default:
+                gesture = AbilityTrigger.LEFT_CLICK;
+                break;
+        }
+
+        // The held back gesture was a combo step if the combo now spans the input it came from
+        if (pending != null) {
+            if (combos.getDepth(state) < 2) {
+                released = pending;
+            }
+            pending = null;
+        }
+
+        deferred = combos.hasContinuation(state);
+        if (deferred) {
+            pending = gesture;
+        }
+    }
+
+    /**
+     * Take the held back gesture once no input came within the step window
+     *
+     * @return The gesture, or null if there is none or the window is still open
+     */
+    public AbilityTrigger takeExpired(long tick, long stepWindow) {
+        if (pending == null || tick - ticks[(head - 1) & MASK] < stepWindow) {
+            return null;
+        }
+        AbilityTrigger expired = pending;
+        pending = null;
+        return expired;
+    }
+
+    /**
+     * Check if the last inputs of a completed combo all fall within the window
+     */
+    public boolean fitsWindow(int length, long comboWindow) {
+        if (length <= 0 || length > count) {
+            return false;
+        }
+        long last = ticks[(head - 1) & MASK];
+        long first = ticks[(head - length) & MASK];
+        return last - first <= comboWindow;
+    }
+
+    /**
+     * Forget combo progress, e.g. after a combo fired
+     */
+    public void resetCombo() {
+        state = 0;
+        count = 0;
+        pending = null;
+    }
+
+    /**
+     * Gesture of the last input
+     */
+    public AbilityTrigger getGesture() {
+        return gesture;
+    }
+
+    /**
+     * Check if the last input's gesture is held back as a possible combo step
+     */
+    public boolean isDeferred() {
+        return deferred;
+    }
+
+    /**
+     * Gesture held back earlier that the last input turned out not to continue, or null
+     */
+    public AbilityTrigger getReleased() {
+        return released;
+    }
+
+    /**
+     * Combo automaton state after the last input
+     */
+    public int getState() {
+        return state;
+    }
+
+    /**
+     * Key of an earlier input
+     *
+     * @param back 0 for the last input
+     * @return The key ordinal, or -1 if not remembered
+     */
+    public int getKey(int back) {
+        return back < count ? keys[(head - 1 - back) & MASK] : -1;
+    }
+
+    public void setSneaking(boolean sneaking) {
+        this.sneaking = sneaking;
+    }
+
+    public boolean isSneaking() {
+        return sneaking;
+    }
+}
@@ -1,5 +1,7 @@
 package com.hyfactions.enchanter.ability;
 
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+
 import lombok.Builder;
 import lombok.Data;
 import lombok.Singular;
@@ -37,9 +39,9 @@ public class MagicalAbility {
     private final String itemType;
     private final List<String> comboKeys;
 
-    // Effects
-    @Singular
-    private final List<AbilityEffect> effects;
+    // Effects, compiled at load time and run in order
+    @Builder.Default
+    private final EffectOperation[] operations = new EffectOperation[0];
 
     // Audio/Visual
     private final String sound;
@@ -50,11 +52,10 @@ public class MagicalAbility {
 
     /**
      * Check if player has required enchantments
-     * Implementation depends on checking player's equipped items
+     * Checked against the player's equipped loadout using the compiled requirements.
      */
     public boolean hasRequirements(Object player) {
-        // Would check player's equipped enchantments
-        return true;
+        return HyFactionsEnchanter.getInstance().getAbilityManager().hasRequirements(this, player);
     }
 
     /**
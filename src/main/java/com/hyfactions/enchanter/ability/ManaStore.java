@@ -0,0 +1,62 @@
+package com.hyfactions.enchanter.ability;
+
+/**
+ * A player's mana
+ *
+ * Only the mana spent and the time regeneration resumes are stored; the
+ * current value is worked out on read from the regen rate, so nothing has
+ * to tick while a player is idle. Keeping the deficit rather than the mana
+ * itself means a full pool needs no initialisation and follows max-mana
+ * changes on reload. Times come from the cooldown clock.
+ */
+public final class ManaStore {
+
+    // Mana below the maximum at regenStart
+    private double deficit;
+
+    // Cooldown clock time at which regeneration resumes
+    private long regenStart;
+
+    /**
+     * Current mana
+     *
+     * @param regenPerNano Mana regenerated per nanosecond
+     */
+    public synchronized double getMana(long now, double maxMana, double regenPerNano) {
+        return maxMana - currentDeficit(now, regenPerNano);
+    }
+
+    /**
+     * Spend mana if enough is available
+     * Check and deduction happen under one lock, so concurrent activations
+     * cannot both spend the same mana.
+     *
+     * @param regenDelayNanos Time after spending before regeneration resumes
+     * @return true if the mana was spent
+     */
+    public synchronized boolean trySpend(double cost, long now, double maxMana, double regenPerNano, long regenDelayNanos) {
+        double current = currentDeficit(now, regenPerNano);
+        if (maxMana - current < cost) {
+            return false;
+        }
+
+        deficit = current + cost;
+        regenStart = now + regenDelayNanos;
+        return true;
+    }
+
+    /**
+     * Refill the pool
+     */
+    public synchronized void refill() {
+        deficit = 0;
+        regenStart = 0;
+    }
+
+    private double currentDeficit(long now, double regenPerNano) {
+        if (deficit <= 0 || now <= regenStart) {
+            return Math.max(0, deficit);
+        }
+        return Math.max(0, deficit - (now - regenStart) * regenPerNano);
+    }
+}
@@ -0,0 +1,116 @@
+package com.hyfactions.enchanter.combat;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.config.ConfigManager;
+import com.hyfactions.enchanter.enchantment.Loadout;
+import com.hyfactions.enchanter.enchantment.RegistrySnapshot;
+import com.hyfactions.enchanter.session.PlayerSession;
+
+import lombok.Getter;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Computes final hit damage in one pass
+ *
+ * Sharpness, crits, Iron Skin, synergies and faction territory/raid
+ * multipliers are compiled into a {@link DamageProfile} per player and
+ * cached on the session, so resolving a hit is a cache check and a
+ * handful of floating-point operations - no config reads or faction
+ * lookups.
+ */
+public class DamagePipeline {
+
+    private final HyFactionsEnchanter plugin;
+
+    // Config values the profiles are compiled against, replaced on reload
+    private volatile Settings settings;
+
+    public DamagePipeline(HyFactionsEnchanter plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    /**
+     * Re-read config values
+     * Cached profiles notice the new settings and recompile on their next hit.
+     */
+    public void reload() {
+        settings = new Settings(plugin.getConfigManager());
+    }
+
+    /**
+     * Get the damage profile of a player
+     *
+     * @return The cached profile, recompiled if its inputs changed; {@link DamageProfile#NONE} if not online
+     */
+    public DamageProfile getProfile(UUID playerUuid) {
+        PlayerSession session = plugin.getSessionManager().getSession(playerUuid);
+        return session != null ? getProfile(session) : DamageProfile.NONE;
+    }
+
+    /**
+     * Get the damage profile of a session
+     */
+    public DamageProfile getProfile(PlayerSession session) {
+        Loadout loadout = session.getLoadout();
+        boolean inTerritory = session.isInFactionTerritory();
+        boolean inRaid = session.isInRaid();
+        RegistrySnapshot registry = plugin.getEnchantmentManager().getSnapshot();
+        Settings current = settings;
+
+        DamageProfile profile = session.getDamageProfile();
+        if (profile != null && profile.isFor(loadout, inTerritory, inRaid, registry, current)) {
+            return profile;
+        }
+
+        // Inputs changed since the last hit
+        int synergies = plugin.getEnchantmentManager().getSynergyCount(loadout.getHeld());
+        profile = DamageProfile.compile(loadout, inTerritory, inRaid, registry, current, synergies);
+        session.setDamageProfile(profile);
+        return profile;
+    }
+
+    /**
+     * Resolve the final damage of a hit
+     *
+     * @param attacker   Attacker's profile, {@link DamageProfile#NONE} if not a player
+     * @param defender   Defender's profile, {@link DamageProfile#NONE} if not a player
+     * @param baseDamage Damage before any enchantment or faction modifier
+     */
+    public double apply(DamageProfile attacker, DamageProfile defender, double baseDamage) {
+        double damage = (baseDamage + attacker.getAttackFlat()) * attacker.getAttackMultiplier();
+
+        double critChance = attacker.getCritChance();
+        if (critChance > 0 && ThreadLocalRandom.current().nextDouble() < critChance) {
+            damage *= attacker.getCritMultiplier();
+        }
+
+        return Math.max(0, damage * defender.getDamageTakenMultiplier());
+    }
+
+    /**
+     * Immutable copy of the config values used by the pipeline
+     */
+    @Getter
+    static final class Settings {
+        private final boolean factionEnabled;
+        private final boolean combinationBonusesEnabled;
+        private final double synergyMultiplier;
+        private final double territoryDamageMultiplier;
+        private final double territoryDefenseMultiplier;
+        private final double raidAttackerDamage;
+        private final double raidDefenderDefense;
+
+        private Settings(ConfigManager config) {
+            this.factionEnabled = config.isFactionEnabled();
+            this.combinationBonusesEnabled = config.isCombinationBonusesEnabled();
+            this.synergyMultiplier = config.getSynergyMultiplier();
+            this.territoryDamageMultiplier = config.getTerritoryDamageMultiplier();
+            this.territoryDefenseMultiplier = config.getTerritoryDefenseMultiplier();
+            this.raidAttackerDamage = config.getRaidAttackerDamage();
+            this.raidDefenderDefense = config.getRaidDefenderDefense();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.hyfactions.enchanter.combat;
+
+import com.hyfactions.enchanter.enchantment.CustomEnchantment;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+import com.hyfactions.enchanter.enchantment.Loadout;
+import com.hyfactions.enchanter.enchantment.PropertyKey;
+import com.hyfactions.enchanter.enchantment.RegistrySnapshot;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Compiled damage stages for one player
+ *
+ * Folds every stat-based modifier of a loadout and faction state into a
+ * flat bonus, a few multipliers and a crit roll. Built once when the
+ * loadout, faction state, registry or config changes, then reused for
+ * every hit the player deals or takes.
+ */
+@Getter
+public final class DamageProfile {
+
+    // Participant without a session (mobs, offline players)
+    public static final DamageProfile NONE = new DamageProfile(null, false, false, null, null,
+            0, 1, 0, 1, 1);
+
+    // Highest fraction of damage armor can remove
+    private static final double MAX_REDUCTION = 0.8;
+
+    // Inputs this profile was compiled from
+    @Getter(AccessLevel.NONE)
+    private final Loadout loadout;
+    @Getter(AccessLevel.NONE)
+    private final boolean inFactionTerritory;
+    @Getter(AccessLevel.NONE)
+    private final boolean inRaid;
+    @Getter(AccessLevel.NONE)
+    private final RegistrySnapshot registry;
+    @Getter(AccessLevel.NONE)
+    private final DamagePipeline.Settings settings;
+
+    // Attack stages: (base + flat) * multiplier, then crit
+    private final double attackFlat;
+    private final double attackMultiplier;
+    private final double critChance;
+    private final double critMultiplier;
+
+    // Defense stage: incoming damage is multiplied by this
+    private final double damageTakenMultiplier;
+
+    private DamageProfile(Loadout loadout, boolean inFactionTerritory, boolean inRaid,
+                          RegistrySnapshot registry, DamagePipeline.Settings settings,
+                          double attackFlat, double attackMultiplier, double critChance,
+                          double critMultiplier, double damageTakenMultiplier) {
+        this.loadout = loadout;
+        this.inFactionTerritory = inFactionTerritory;
+        this.inRaid = inRaid;
+        this.registry = registry;
+        this.settings = settings;
+        this.attackFlat = attackFlat;
+        this.attackMultiplier = attackMultiplier;
+        this.critChance = critChance;
+        this.critMultiplier = critMultiplier;
+        this.damageTakenMultiplier = damageTakenMultiplier;
+    }
+
+    /**
+     * Check if this profile is still valid for the given inputs
+     */
+    boolean isFor(Loadout loadout, boolean inFactionTerritory, boolean inRaid,
+                  RegistrySnapshot registry, DamagePipeline.Settings settings) {
+        return this.loadout == loadout
+                && this.inFactionTerritory == inFactionTerritory
+                && this.inRaid == inRaid
+                && this.registry == registry
+                && this.settings == settings;
+    }
+
+    /**
+     * Compile a profile
+     *
+     * @param synergyCount Active synergy pairs on the held item
+     */
+    static DamageProfile compile(Loadout loadout, boolean inFactionTerritory, boolean inRaid,
+                                 RegistrySnapshot registry, DamagePipeline.Settings settings,
+                                 int synergyCount) {
+        boolean territory = settings.isFactionEnabled() && inFactionTerritory;
+        boolean raid = settings.isFactionEnabled() && inRaid;
+
+        // Weapon: Sharpness, Critical Strike, Raid Master
+        double flat = 0;
+        double critPercent = 0;
+        double critMultiplier = 1;
+        double raidBonusPercent = 0;
+        EnchantmentSet held = loadout.getHeld();
+        for (int i = 0; i < held.size(); i++) {
+            CustomEnchantment.EnchantmentLevel level = levelOf(registry, held.ordinalAt(i), held.levelAt(i));
+            if (level == null) continue;
+
+            flat += level.get(PropertyKey.DAMAGE_BONUS, 0);
+            critPercent += level.get(PropertyKey.CRIT_CHANCE, 0);
+            critMultiplier = Math.max(critMultiplier, level.get(PropertyKey.CRIT_MULTIPLIER, 1));
+            raidBonusPercent += level.get(PropertyKey.RAID_DAMAGE_BONUS, 0);
+        }
+
+        double attackMultiplier = 1;
+        if (settings.isCombinationBonusesEnabled() && synergyCount > 0) {
+            attackMultiplier *= Math.pow(settings.getSynergyMultiplier(), synergyCount);
+        }
+        if (territory) {
+            attackMultiplier *= settings.getTerritoryDamageMultiplier();
+        }
+        if (raid) {
+            attackMultiplier *= settings.getRaidAttackerDamage() * (1 + raidBonusPercent / 100.0);
+        }
+
+        // Armor: Iron Skin, Territory Guard - each piece adds the value of its own level
+        double reductionPercent = 0;
+        double territoryDefensePercent = 0;
+        for (int piece = 0; piece < loadout.getArmorSetCount(); piece++) {
+            EnchantmentSet armor = loadout.getArmorSet(piece);
+            for (int i = 0; i < armor.size(); i++) {
+                CustomEnchantment.EnchantmentLevel level = levelOf(registry, armor.ordinalAt(i), armor.levelAt(i));
+                if (level == null) continue;
+
+                reductionPercent += level.get(PropertyKey.DAMAGE_REDUCTION, 0);
+                territoryDefensePercent += level.get(PropertyKey.DEFENSE_BONUS, 0);
+            }
+        }
+        if (territory) {
+            reductionPercent += territoryDefensePercent;
+        }
+
+        double taken = 1 - Math.min(reductionPercent / 100.0, MAX_REDUCTION);
+        if (territory) {
+            taken /= settings.getTerritoryDefenseMultiplier();
+        }
+        if (raid) {
+            taken /= settings.getRaidDefenderDefense();
+        }
+
+        return new DamageProfile(loadout, inFactionTerritory, inRaid, registry, settings,
+                flat, attackMultiplier, Math.min(critPercent / 100.0, 1), critMultiplier, taken);
+    }
+
+    /**
+     * Resolve the level definition for the enchantment of a single item
+     */
+    private static CustomEnchantment.EnchantmentLevel levelOf(RegistrySnapshot registry, int ordinal, int level) {
+        CustomEnchantment enchantment = registry.getEnchantment(ordinal);
+        if (enchantment == null) return null;
+
+        return enchantment.getLevel(Math.max(1, Math.min(enchantment.getMaxLevel(), level)));
+    }
+}
@@ -98,6 +98,10 @@ public class AbilitiesCommand extends AbstractCommand {
 
         PlayerUtil.sendMessage(viewer, "");
         PlayerUtil.sendMessage(viewer, "&7Total: &e" + unlockedAbilities.size() + " abilities");
+        if (plugin.getAbilityManager().isManaEnabled()) {
+            PlayerUtil.sendMessage(viewer, "&7Mana: &b" + (int) plugin.getAbilityManager().getMana(targetUuid)
+                + "&7/&b" + (int) plugin.getAbilityManager().getMaxMana());
+        }
     }
 
     /**
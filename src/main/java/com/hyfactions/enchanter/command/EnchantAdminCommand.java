@@ -2,8 +2,15 @@ package com.hyfactions.enchanter.command;
 
 import com.hyfactions.enchanter.HyFactionsEnchanter;
 import com.hyfactions.enchanter.enchantment.CustomEnchantment;
+import com.hyfactions.enchanter.enchantment.EnchantmentManager;
+import com.hyfactions.enchanter.enchantment.EnchantmentOrdinals;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+import com.hyfactions.enchanter.tick.TickBudgetManager;
 import com.hyfactions.enchanter.util.PlayerUtil;
+import com.hyfactions.enchanter.util.EnchantmentCache;
+import com.hyfactions.enchanter.util.ItemEnchantEditor;
 import com.hyfactions.enchanter.util.ItemUtil;
+import com.hyfactions.enchanter.util.LoreCache;
 
 // Hytale API imports
 import com.hypixel.hytale.server.core.command.system.AbstractCommand;
@@ -92,7 +99,7 @@ public class EnchantAdminCommand extends AbstractCommand {
         }
 
         Player player = (Player) context.getSender();
-        String enchantId = args[2].toUpperCase();
+        String enchantId = EnchantmentManager.normalizeId(args[2]);
         int level;
 
         try {
@@ -123,8 +130,23 @@ public class EnchantAdminCommand extends AbstractCommand {
                 return;
             }
 
-            // Apply enchantment
-            ItemUtil.addEnchantment(item, enchantId, level);
+            // Apply enchantment - admins override the conflict and per-item limits
+            ItemEnchantEditor editor = ItemUtil.edit(item).ignoreRestrictions().add(enchantId, level);
+            switch (editor.commit()) {
+                case UNCHANGED -> {
+                    context.sendMessage(Message.raw("§cHeld item already has " + enchantId + " at that level"));
+                    return;
+                }
+                case UNKNOWN_ENCHANTMENT -> {
+                    context.sendMessage(Message.raw("§cUnknown enchantment: " + enchantId));
+                    return;
+                }
+                default -> {
+                }
+            }
+
+            // Held item changed - rebuild the combat loadout
+            plugin.getSessionManager().refreshLoadout(player);
 
             context.sendMessage(Message.raw("§aGave " + enchantment.getFormattedDisplayName() + " " +
                 ItemUtil.getRomanNumeral(level) + " §ato held item"));
@@ -146,7 +168,7 @@ public class EnchantAdminCommand extends AbstractCommand {
         }
 
         Player player = (Player) context.getSender();
-        String enchantId = args[2].toUpperCase();
+        String enchantId = EnchantmentManager.normalizeId(args[2]);
 
         player.getWorld().execute(() -> {
             ItemStack item = ItemUtil.getHeldItem(player);
@@ -162,6 +184,7 @@ public class EnchantAdminCommand extends AbstractCommand {
 
             // Remove enchantment
             ItemUtil.removeEnchantment(item, enchantId);
+            plugin.getSessionManager().refreshLoadout(player);
 
             context.sendMessage(Message.raw("§aRemoved " + enchantId + " from held item"));
         });
@@ -177,12 +200,28 @@ public class EnchantAdminCommand extends AbstractCommand {
             context.sendMessage(Message.raw("§7Total enchantments: §e" +
                 plugin.getEnchantmentManager().getEnchantmentIds().size()));
 
+            // Item decode cache - misses should stop growing once combat items are warm
+            EnchantmentCache cache = plugin.getEnchantmentManager().getItemCache();
+            context.sendMessage(Message.raw("§7Item cache: §e" + cache.getHits() + " §7hits, §e" +
+                cache.getMisses() + " §7misses §8(" + String.format("%.1f", cache.getHitRate()) + "%)"));
+
+            LoreCache loreCache = plugin.getEnchantmentManager().getLoreCache();
+            context.sendMessage(Message.raw("§7Lore cache: §e" + loreCache.size() + " §7entries, §e" +
+                loreCache.getHits() + " §7hits, §e" + loreCache.getMisses() + " §7misses"));
+
+            TickBudgetManager budgets = plugin.getTickBudgetManager();
+            context.sendMessage(Message.raw("§7Tick budget: §e" + budgets.getTicksOverBudget() + "§7/§e" +
+                budgets.getTicks() + " §7ticks over, §e" +
+                String.format("%.1f", budgets.getOverrunNanos() / 1_000_000.0) + "ms §7overrun"));
+            context.sendMessage(Message.raw("§7Deferred effects: §e" + budgets.getDeferredTasks() + " §7deferred, §e" +
+                budgets.getDroppedTasks() + " §7dropped, §e" + budgets.getQueueDepth() + " §7queued"));
+
             // TODO: Add more global statistics when database methods are available
             context.sendMessage(Message.raw("§7Use §e/enchantadmin stats <enchantment> §7for specific stats"));
             return;
         }
 
-        String enchantId = args[1].toUpperCase();
+        String enchantId = EnchantmentManager.normalizeId(args[1]);
         CustomEnchantment enchantment = plugin.getEnchantmentManager().getEnchantment(enchantId);
 
         if (enchantment == null) {
@@ -227,22 +266,24 @@ public class EnchantAdminCommand extends AbstractCommand {
                 return;
             }
 
-            Map<String, Integer> enchantments = ItemUtil.getItemEnchantments(item);
-            if (enchantments.isEmpty()) {
+            // Clear all enchantments
+            ItemEnchantEditor editor = ItemUtil.edit(item).clear();
+            if (editor.commit() != ItemEnchantEditor.Result.SUCCESS) {
                 context.sendMessage(Message.raw("§cThis item has no enchantments!"));
                 return;
             }
+            plugin.getSessionManager().refreshLoadout(player);
 
+            EnchantmentSet enchantments = editor.getOriginal();
             int count = enchantments.size();
 
-            // Clear all enchantments
-            ItemUtil.setItemEnchantments(item, Map.of());
-
             // Update database
             UUID playerUuid = PlayerUtil.getPlayerUUID(player);
             UUID itemUuid = ItemUtil.getItemUUID(item);
+            EnchantmentOrdinals ordinals = plugin.getEnchantmentManager().getOrdinals();
 
-            for (String enchantId : enchantments.keySet()) {
+            for (int i = 0; i < count; i++) {
+                String enchantId = ordinals.idOf(enchantments.ordinalAt(i));
                 plugin.getDatabaseManager().removePlayerEnchantment(playerUuid, itemUuid, enchantId);
             }
 
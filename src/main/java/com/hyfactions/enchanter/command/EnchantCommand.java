@@ -2,8 +2,10 @@ package com.hyfactions.enchanter.command;
 
 import com.hyfactions.enchanter.HyFactionsEnchanter;
 import com.hyfactions.enchanter.enchantment.CustomEnchantment;
+import com.hyfactions.enchanter.enchantment.EnchantmentManager;
 import com.hyfactions.enchanter.enchantment.EnchantmentTier;
 import com.hyfactions.enchanter.enchantment.EnchantmentCategory;
+import com.hyfactions.enchanter.util.ItemEnchantEditor;
 import com.hyfactions.enchanter.util.ItemUtil;
 import com.hyfactions.enchanter.util.PlayerUtil;
 
@@ -17,7 +19,6 @@ import com.hypixel.hytale.server.core.item.ItemStack;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -132,7 +133,7 @@ public class EnchantCommand extends AbstractCommand {
             return;
         }
 
-        String enchantId = args[1].toUpperCase();
+        String enchantId = EnchantmentManager.normalizeId(args[1]);
         int level = args.length >= 3 ? parseLevel(args[2]) : 1;
 
         if (level <= 0) {
@@ -170,29 +171,36 @@ public class EnchantCommand extends AbstractCommand {
             }
 
             // Check if enchantment can be applied to this item
-            if (!enchantment.canApplyTo(item.getType().toString())) {
+            if (!plugin.getEnchantmentManager().canApplyTo(enchantId, item.getType().toString())) {
                 PlayerUtil.sendMessage(player, "&cCannot apply " + enchantId + " to this item!");
                 return;
             }
 
-            // Check max enchantments
-            Map<String, Integer> currentEnchants = ItemUtil.getItemEnchantments(item);
-            if (currentEnchants.size() >= plugin.getConfigManager().getMaxEnchantsPerItem() &&
-                    !currentEnchants.containsKey(enchantId)) {
-                PlayerUtil.sendMessage(player, plugin.getMessageUtil().getMessage("max-enchants-reached"));
-                return;
-            }
-
-            // Check conflicts
-            for (String existingEnchant : currentEnchants.keySet()) {
-                if (enchantment.conflictsWith(existingEnchant)) {
-                    PlayerUtil.sendMessage(player, "&c" + enchantId + " conflicts with " + existingEnchant + "!");
+            // Apply enchantment - max enchantments and conflicts are checked on commit
+            ItemEnchantEditor editor = ItemUtil.edit(item).add(enchantId, level);
+            switch (editor.commit()) {
+                case MAX_ENCHANTMENTS -> {
+                    PlayerUtil.sendMessage(player, plugin.getMessageUtil().getMessage("max-enchants-reached"));
+                    return;
+                }
+                case CONFLICT -> {
+                    PlayerUtil.sendMessage(player, "&c" + enchantId + " conflicts with " + editor.getConflictedWithId() + "!");
                     return;
                 }
+                case UNCHANGED -> {
+                    PlayerUtil.sendMessage(player, "&cYour item already has " + enchantId + " at that level!");
+                    return;
+                }
+                case UNKNOWN_ENCHANTMENT -> {
+                    PlayerUtil.sendMessage(player, "&cUnknown enchantment: " + enchantId);
+                    return;
+                }
+                default -> {
+                }
             }
 
-            // Apply enchantment
-            ItemUtil.addEnchantment(item, enchantId, level);
+            // Held item changed - rebuild the combat loadout
+            plugin.getSessionManager().refreshLoadout(player);
 
             // Save to database
             UUID playerUuid = PlayerUtil.getPlayerUUID(player);
@@ -218,7 +226,7 @@ public class EnchantCommand extends AbstractCommand {
             return;
         }
 
-        String enchantId = args[1].toUpperCase();
+        String enchantId = EnchantmentManager.normalizeId(args[1]);
 
         player.getWorld().execute(() -> {
             ItemStack item = ItemUtil.getHeldItem(player);
@@ -234,6 +242,7 @@ public class EnchantCommand extends AbstractCommand {
 
             // Remove enchantment
             ItemUtil.removeEnchantment(item, enchantId);
+            plugin.getSessionManager().refreshLoadout(player);
 
             // Update database
             UUID playerUuid = PlayerUtil.getPlayerUUID(player);
@@ -257,7 +266,7 @@ public class EnchantCommand extends AbstractCommand {
             return;
         }
 
-        String enchantId = args[1].toUpperCase();
+        String enchantId = EnchantmentManager.normalizeId(args[1]);
         CustomEnchantment enchantment = plugin.getEnchantmentManager().getEnchantment(enchantId);
 
         if (enchantment == null) {
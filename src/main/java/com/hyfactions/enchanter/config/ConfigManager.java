@@ -14,6 +14,7 @@ public class ConfigManager {
 
     // Database settings
     private String databaseType;
+    private int nodeId;
     private String sqliteFileName;
     private String mysqlHost;
     private int mysqlPort;
@@ -46,6 +47,10 @@ public class ConfigManager {
     // Ability settings
     private double globalCooldown;
     private boolean allowAbilitiesInCombat;
+    private boolean notifyAbilityReady;
+    private double comboWindow;
+    private double comboStepWindow;
+    private double doubleSneakWindow;
     private boolean manaSystemEnabled;
     private int maxMana;
     private double manaRegenRate;
@@ -70,6 +75,9 @@ public class ConfigManager {
     private int cacheExpiry;
     private boolean asyncDatabase;
     private int updateInterval;
+    private int statisticsFlushInterval;
+    private double tickBudgetMs;
+    private int deferredQueueLimit;
 
     // Admin settings
     private boolean debugMode;
@@ -90,6 +98,7 @@ public class ConfigManager {
 
         // Database
         databaseType = getConfigString("database.type", "SQLITE");
+        nodeId = getConfigInt("database.node-id", 0);
         sqliteFileName = getConfigString("database.sqlite.file", "enchanter.db");
         mysqlHost = getConfigString("database.mysql.host", "localhost");
         mysqlPort = getConfigInt("database.mysql.port", 3306);
@@ -122,6 +131,10 @@ public class ConfigManager {
         // Abilities
         globalCooldown = getConfigDouble("abilities.global-cooldown", 1.0);
         allowAbilitiesInCombat = getConfigBoolean("abilities.allow-in-combat", true);
+        notifyAbilityReady = getConfigBoolean("abilities.notify-ready", false);
+        comboWindow = getConfigDouble("abilities.combo-window", 1.5);
+        comboStepWindow = getConfigDouble("abilities.combo-step-window", 0.5);
+        doubleSneakWindow = getConfigDouble("abilities.double-sneak-window", 0.4);
         manaSystemEnabled = getConfigBoolean("abilities.mana-system.enabled", false);
         maxMana = getConfigInt("abilities.mana-system.max-mana", 100);
         manaRegenRate = getConfigDouble("abilities.mana-system.regen-rate", 1.0);
@@ -146,6 +159,9 @@ public class ConfigManager {
         cacheExpiry = getConfigInt("performance.cache-expiry", 30);
         asyncDatabase = getConfigBoolean("performance.async-database", true);
         updateInterval = getConfigInt("performance.update-interval", 20);
+        statisticsFlushInterval = Math.max(1, getConfigInt("performance.statistics-flush-interval", 30));
+        tickBudgetMs = getConfigDouble("performance.tick-budget-ms", 5.0);
+        deferredQueueLimit = getConfigInt("performance.deferred-queue-limit", 4096);
 
         // Admin
         debugMode = getConfigBoolean("admin.debug", false);
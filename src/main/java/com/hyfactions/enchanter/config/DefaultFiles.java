@@ -0,0 +1,61 @@
+package com.hyfactions.enchanter.config;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Opens the plugin's editable files from the data folder
+ *
+ * On first load the default bundled in the plugin jar is written to the
+ * data folder, so server owners have a copy to edit. If it cannot be
+ * written the bundled default is read directly.
+ */
+public final class DefaultFiles {
+
+    private DefaultFiles() {
+    }
+
+    /**
+     * Open a data folder file, saving the bundled default first if it is missing
+     *
+     * @throws IOException If the file is neither in the data folder nor in the plugin jar
+     */
+    public static Reader open(HyFactionsEnchanter plugin, String name) throws IOException {
+        File file = new File(plugin.getDataFolder(), name);
+        if (!file.exists()) {
+            saveDefault(plugin, file, name);
+        }
+
+        InputStream in = file.exists()
+                ? new FileInputStream(file)
+                : DefaultFiles.class.getResourceAsStream("/" + name);
+
+        if (in == null) {
+            throw new IOException(name + " not found in data folder or plugin jar");
+        }
+        return new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+
+    private static void saveDefault(HyFactionsEnchanter plugin, File file, String name) {
+        try (InputStream in = DefaultFiles.class.getResourceAsStream("/" + name)) {
+            if (in == null) return;
+
+            File dataFolder = file.getParentFile();
+            if (!dataFolder.exists()) {
+                dataFolder.mkdirs();
+            }
+            Files.copy(in, file.toPath());
+            plugin.getLogger().info("Saved default " + name);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to save default " + name + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.hyfactions.enchanter.config;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal reader for the YAML subset used by the plugin's own config files
+ *
+ * Supports nested maps, block lists of scalars or maps ("- key: value"),
+ * inline lists ("[A, B]"), quoted strings and comments. Reads the file in
+ * a single pass with no external dependency; anything outside the subset
+ * is reported with its line number.
+ *
+ * Maps come back as {@link LinkedHashMap} (file order), lists as
+ * {@link ArrayList}, scalars as String, Integer, Long, Double or Boolean.
+ */
+public final class YamlReader {
+
+    private final List<Line> lines = new ArrayList<>();
+    private int position;
+
+    private YamlReader() {
+    }
+
+    /**
+     * Read a document whose root is a map
+     *
+     * @throws IOException If the reader fails or the document is outside the supported subset
+     */
+    public static Map<String, Object> read(Reader reader) throws IOException {
+        YamlReader yaml = new YamlReader();
+        yaml.tokenize(reader);
+
+        if (yaml.lines.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
+        Line first = yaml.lines.get(0);
+        if (first.isListItem()) {
+            throw new IOException("Line " + first.number + ": expected a map at the document root");
+        }
+
+        Map<String, Object> root = yaml.readMap(first.indent);
+        if (yaml.position < yaml.lines.size()) {
+            Line line = yaml.lines.get(yaml.position);
+            throw new IOException("Line " + line.number + ": unexpected indentation");
+        }
+        return root;
+    }
+
+    /**
+     * Split the input into significant lines, dropping blanks and comments
+     */
+    private void tokenize(Reader reader) throws IOException {
+        BufferedReader buffered = reader instanceof BufferedReader b ? b : new BufferedReader(reader);
+        String raw;
+        int number = 0;
+
+        while ((raw = buffered.readLine()) != null) {
+            number++;
+
+            int indent = 0;
+            while (indent < raw.length() && raw.charAt(indent) == ' ') {
+                indent++;
+            }
+            if (indent < raw.length() && raw.charAt(indent) == '\t') {
+                throw new IOException("Line " + number + ": tabs are not allowed for indentation");
+            }
+
+            String content = stripComment(raw, indent).trim();
+            if (!content.isEmpty() && !content.equals("---")) {
+                lines.add(new Line(number, indent, content));
+            }
+        }
+    }
+
+    private Object readBlock(int indent) throws IOException {
+        Line line = lines.get(position);
+        return line.isListItem() ? readList(indent) : readMap(indent);
+    }
+
+    private Map<String, Object> readMap(int indent) throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+
+        while (position < lines.size()) {
+            Line line = lines.get(position);
+            if (line.indent < indent) break;
+            if (line.indent > indent) {
+                throw new IOException("Line " + line.number + ": unexpected indentation");
+            }
+            if (line.isListItem()) break;
+
+            int colon = findKeySeparator(line.content);
+            if (colon < 0) {
+                throw new IOException("Line " + line.number + ": expected 'key: value'");
+            }
+
+            String key = unquote(line.content.substring(0, colon).trim());
+            String rest = line.content.substring(colon + 1).trim();
+            position++;
+
+            if (!rest.isEmpty()) {
+                map.put(key, parseScalar(rest, line.number));
+                continue;
+            }
+
+            // Nested block: deeper map/list, or a list at the same indent
+            if (position < lines.size()) {
+                Line next = lines.get(position);
+                if (next.indent > indent || (next.indent == indent && next.isListItem())) {
+                    map.put(key, readBlock(next.indent));
+                    continue;
+                }
+            }
+            map.put(key, null);
+        }
+        return map;
+    }
+
+    private List<Object> readList(int indent) throws IOException {
+        List<Object> list = new ArrayList<>();
+
+        while (position < lines.size()) {
+            Line line = lines.get(position);
+            if (line.indent != indent || !line.isListItem()) {
+                if (line.indent > indent) {
+                    throw new IOException("Line " + line.number + ": unexpected indentation");
+                }
+                break;
+            }
+
+            String rest = line.content.substring(1).trim();
+            if (rest.isEmpty()) {
+                // Item is a block on the following lines
+                position++;
+                if (position < lines.size() && lines.get(position).indent > indent) {
+                    list.add(readBlock(lines.get(position).indent));
+                } else {
+                    list.add(null);
+                }
+                continue;
+            }
+
+            if (!rest.startsWith("[") && findKeySeparator(rest) >= 0) {
+                // "- key: value" starts a map whose keys line up with "key"
+                int itemIndent = indent + line.content.indexOf(rest);
+                lines.set(position, new Line(line.number, itemIndent, rest));
+                list.add(readMap(itemIndent));
+                continue;
+            }
+
+            list.add(parseScalar(rest, line.number));
+            position++;
+        }
+        return list;
+    }
+
+    /**
+     * Find the ':' that ends a key - followed by a space or the end of the line, outside quotes
+     */
+    private static int findKeySeparator(String content) {
+        char quote = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (quote != 0) {
+                if (c == quote) quote = 0;
+            } else if (c == '\'' || c == '"') {
+                if (i == 0) quote = c;
+            } else if (c == ':' && (i + 1 == content.length() || content.charAt(i + 1) == ' ')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String stripComment(String raw, int from) {
+        char quote = 0;
+        for (int i = from; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (quote != 0) {
+                if (c == quote) quote = 0;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '#' && (i == from || raw.charAt(i - 1) == ' ')) {
+                return raw.substring(0, i);
+            }
+        }
+        return raw;
+    }
+
+    private static Object parseScalar(String text, int lineNumber) throws IOException {
+        if (text.startsWith("[")) {
+            if (!text.endsWith("]")) {
+                throw new IOException("Line " + lineNumber + ": unterminated inline list");
+            }
+            List<Object> list = new ArrayList<>();
+            String body = text.substring(1, text.length() - 1).trim();
+            if (!body.isEmpty()) {
+                for (String item : body.split(",")) {
+                    list.add(parseScalar(item.trim(), lineNumber));
+                }
+            }
+            return list;
+        }
+
+        char first = text.charAt(0);
+        if (first == '\'' || first == '"') {
+            return unquote(text);
+        }
+
+        switch (text) {
+            case "true":
+                return Boolean.TRUE;
+            case "false":
+                return Boolean.FALSE;
+            case "~":
+            case "null":
+                return null;
+            default:
+                break;
+        }
+
+        if ((first >= '0' && first <= '9') || first == '-' || first == '.') {
+            try {
+                if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+                    long value = Long.parseLong(text);
+                    return value == (int) value ? Integer.valueOf((int) value) : Long.valueOf(value);
+                }
+                return Double.parseDouble(text);
+            } catch (NumberFormatException ignored) {
+                // Not a number - fall through to string
+            }
+        }
+        return text;
+    }
+
+    private static String unquote(String text) {
+        if (text.length() >= 2) {
+            char first = text.charAt(0);
+            if (first == '\'' && text.charAt(text.length() - 1) == '\'') {
+                return text.substring(1, text.length() - 1).replace("''", "'");
+            }
+            if (first == '"' && text.charAt(text.length() - 1) == '"') {
+                return text.substring(1, text.length() - 1).replace("\\\"", "\"").replace("\\n", "\n");
+            }
+        }
+        return text;
+    }
+
+    private static final class Line {
+        private final int number;
+        private final int indent;
+        private final String content;
+
+        private Line(int number, int indent, String content) {
+            this.number = number;
+            this.indent = indent;
+            this.content = content;
+        }
+
+        private boolean isListItem() {
+            return content.equals("-") || content.startsWith("- ");
+        }
+    }
+}
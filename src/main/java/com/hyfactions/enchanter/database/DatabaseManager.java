@@ -1,8 +1,12 @@
 package com.hyfactions.enchanter.database;
 
 import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.enchantment.EnchantmentManager;
+import com.hyfactions.enchanter.enchantment.EnchantmentOrdinals;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
 
 import java.io.File;
 import java.sql.Connection;
@@ -22,8 +26,15 @@ public class DatabaseManager {
     private HikariDataSource dataSource;
     private DatabaseType databaseType;
 
+    // Statistic deltas waiting for the next flush
+    private final StatisticsBuffer statistics;
+    private final boolean trackStatistics;
+    private volatile boolean shuttingDown;
+
     public DatabaseManager(HyFactionsEnchanter plugin) {
         this.plugin = plugin;
+        this.statistics = new StatisticsBuffer(64);
+        this.trackStatistics = plugin.getConfigManager().isTrackStatistics();
     }
 
     /**
@@ -51,6 +62,9 @@ public class DatabaseManager {
         // Create tables
         createTables();
 
+        // Start writing statistics in batches
+        scheduleStatisticsFlush();
+
         plugin.getLogger().info("Database initialized successfully.");
     }
 
@@ -251,9 +265,10 @@ public class DatabaseManager {
     /**
      * Get player's enchantments for an item
      */
-    public CompletableFuture<Map<String, Integer>> getPlayerEnchantments(UUID playerUuid, UUID itemUuid) {
+    public CompletableFuture<EnchantmentSet> getPlayerEnchantments(UUID playerUuid, UUID itemUuid) {
         return CompletableFuture.supplyAsync(() -> {
-            Map<String, Integer> enchantments = new HashMap<>();
+            EnchantmentOrdinals ordinals = plugin.getEnchantmentManager().getOrdinals();
+            EnchantmentSet enchantments = EnchantmentSet.EMPTY;
             String sql = "SELECT enchantment_id, enchantment_level FROM player_enchantments WHERE player_uuid = ? AND item_uuid = ?";
 
             try (Connection conn = getConnection();
@@ -264,7 +279,11 @@ public class DatabaseManager {
 
                 ResultSet rs = stmt.executeQuery();
                 while (rs.next()) {
-                    enchantments.put(rs.getString("enchantment_id"), rs.getInt("enchantment_level"));
+                    // Rows may predate normalized IDs; never assign ordinals from stored strings
+                    int ordinal = ordinals.lookup(EnchantmentManager.normalizeId(rs.getString("enchantment_id")));
+                    if (ordinal < 0) continue;
+
+                    enchantments = enchantments.with(ordinal, rs.getInt("enchantment_level"));
                 }
             } catch (SQLException e) {
                 plugin.getLogger().severe("Failed to get player enchantments: " + e.getMessage());
@@ -277,38 +296,144 @@ public class DatabaseManager {
 
     /**
      * Increment enchantment statistics
+     * Counted in memory; written by the next periodic flush.
      */
     public void incrementStatistic(String enchantId, StatisticType type) {
-        CompletableFuture.runAsync(() -> {
-            String column = switch (type) {
-                case APPLICATIONS -> "total_applications";
-                case REMOVALS -> "total_removals";
-                case USES -> "total_uses";
-            };
+        incrementStatistic(plugin.getEnchantmentManager().getOrdinal(enchantId), type);
+    }
 
-            String sql = databaseType == DatabaseType.SQLITE ?
-                    "INSERT INTO enchantment_statistics (enchantment_id, " + column + ") VALUES (?, 1) " +
-                            "ON CONFLICT(enchantment_id) DO UPDATE SET " + column + " = " + column + " + 1" :
-                    "INSERT INTO enchantment_statistics (enchantment_id, " + column + ") VALUES (?, 1) " +
-                            "ON DUPLICATE KEY UPDATE " + column + " = " + column + " + 1";
+    /**
+     * Increment enchantment statistics by ordinal
+     */
+    public void incrementStatistic(int ordinal, StatisticType type) {
+        if (trackStatistics) {
+            statistics.increment(ordinal, type);
+        }
+    }
 
-            try (Connection conn = getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+    /**
+     * Schedule the next statistics flush
+     */
+    private void scheduleStatisticsFlush() {
+        if (shuttingDown) return;
+
+        long ticks = plugin.getConfigManager().getStatisticsFlushInterval() * 20L;
+        plugin.getTaskRegistry().delayed(() -> plugin.getTaskRegistry().async(() -> {
+            try {
+                flushStatistics();
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Statistics flush failed: " + e.getMessage());
+            } finally {
+                // A failed flush must not stop the periodic flush
+                scheduleStatisticsFlush();
+            }
+        }), ticks);
+    }
 
-                stmt.setString(1, enchantId);
-                stmt.executeUpdate();
-            } catch (SQLException e) {
-                plugin.getLogger().severe("Failed to update statistics: " + e.getMessage());
-                e.printStackTrace();
+    /**
+     * Write pending statistic deltas to the database
+     * One batched upsert per statistic column, all in a single transaction.
+     * Deltas that fail to write are kept for the next flush.
+     */
+    public synchronized void flushStatistics() {
+        if (dataSource == null || dataSource.isClosed()) return;
+
+        EnchantmentOrdinals ordinals = plugin.getEnchantmentManager().getOrdinals();
+        StatisticType[] types = StatisticType.values();
+        long[][] deltas = new long[types.length][];
+        for (StatisticType type : types) {
+            deltas[type.ordinal()] = statistics.drain(type);
+        }
+
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            int rows = 0;
+
+            for (StatisticType type : types) {
+                String column = type.getColumn();
+                String sql = databaseType == DatabaseType.SQLITE ?
+                        "INSERT INTO enchantment_statistics (enchantment_id, " + column + ") VALUES (?, ?) " +
+                                "ON CONFLICT(enchantment_id) DO UPDATE SET " + column + " = " + column + " + excluded." + column :
+                        "INSERT INTO enchantment_statistics (enchantment_id, " + column + ") VALUES (?, ?) " +
+                                "ON DUPLICATE KEY UPDATE " + column + " = " + column + " + VALUES(" + column + ")";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    long[] typeDeltas = deltas[type.ordinal()];
+                    boolean batched = false;
+
+                    for (int ordinal = 0; ordinal < typeDeltas.length; ordinal++) {
+                        if (typeDeltas[ordinal] == 0) continue;
+
+                        String enchantId = ordinals.idOf(ordinal);
+                        if (enchantId == null) continue;
+
+                        stmt.setString(1, enchantId);
+                        stmt.setLong(2, typeDeltas[ordinal]);
+                        stmt.addBatch();
+                        batched = true;
+                        rows++;
+                    }
+
+                    if (batched) {
+                        stmt.executeBatch();
+                    }
+                }
             }
-        });
+
+            conn.commit();
+            if (rows > 0) {
+                plugin.getLogger().fine("Flushed " + rows + " statistic updates.");
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().severe("Failed to flush statistics: " + e.getMessage());
+            for (StatisticType type : types) {
+                statistics.restore(type, deltas[type.ordinal()]);
+            }
+        }
+    }
+
+    /**
+     * Get statistics for an enchantment
+     * Persisted totals plus counts not yet flushed.
+     *
+     * @return Counts keyed by "applications", "removals" and "triggers"
+     */
+    public Map<String, Long> getEnchantmentStatistics(String enchantId) {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        String id = EnchantmentManager.normalizeId(enchantId);
+        String sql = "SELECT total_applications, total_removals, total_uses FROM enchantment_statistics WHERE enchantment_id = ?";
+
+        try (Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, id);
+            ResultSet rs = stmt.executeQuery();
+            if (rs.next()) {
+                for (StatisticType type : StatisticType.values()) {
+                    stats.put(type.getKey(), rs.getLong(type.getColumn()));
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().severe("Failed to get statistics: " + e.getMessage());
+        }
+
+        int ordinal = plugin.getEnchantmentManager().getOrdinal(id);
+        for (StatisticType type : StatisticType.values()) {
+            stats.merge(type.getKey(), statistics.getPending(ordinal, type), Long::sum);
+        }
+        return stats;
     }
 
     /**
      * Shutdown database connections
      */
     public void shutdown() {
+        shuttingDown = true;
+
         if (dataSource != null && !dataSource.isClosed()) {
+            // Write whatever was counted since the last flush
+            flushStatistics();
+
             plugin.getLogger().info("Closing database connections...");
             dataSource.close();
         }
@@ -318,7 +443,19 @@ public class DatabaseManager {
         MYSQL, SQLITE
     }
 
+    @Getter
     public enum StatisticType {
-        APPLICATIONS, REMOVALS, USES
+        APPLICATIONS("applications", "total_applications"),
+        REMOVALS("removals", "total_removals"),
+        // Stored in the original total_uses column
+        TRIGGERS("triggers", "total_uses");
+
+        private final String key;
+        private final String column;
+
+        StatisticType(String key, String column) {
+            this.key = key;
+            this.column = column;
+        }
     }
 }
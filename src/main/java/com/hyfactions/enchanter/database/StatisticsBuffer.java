@@ -0,0 +1,101 @@
+package com.hyfactions.enchanter.database;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory enchantment statistic counters
+ *
+ * One {@link LongAdder} per statistic type and enchantment ordinal, so
+ * world threads count applications and triggers without contention or
+ * I/O. {@link DatabaseManager} drains the deltas periodically and writes
+ * them in one batch per statistic.
+ */
+public class StatisticsBuffer {
+
+    private static final DatabaseManager.StatisticType[] TYPES = DatabaseManager.StatisticType.values();
+
+    // [type][ordinal], grown when a higher ordinal is first counted
+    private volatile LongAdder[][] counters;
+
+    public StatisticsBuffer(int initialCapacity) {
+        this.counters = allocate(Math.max(1, initialCapacity));
+    }
+
+    /**
+     * Count one occurrence
+     */
+    public void increment(int ordinal, DatabaseManager.StatisticType type) {
+        add(ordinal, type, 1);
+    }
+
+    /**
+     * Add to a counter
+     */
+    public void add(int ordinal, DatabaseManager.StatisticType type, long delta) {
+        if (ordinal < 0) return;
+
+        LongAdder[][] current = counters;
+        if (ordinal >= current[0].length) {
+            current = grow(ordinal);
+        }
+        current[type.ordinal()][ordinal].add(delta);
+    }
+
+    /**
+     * Get the count accumulated since the last drain
+     */
+    public long getPending(int ordinal, DatabaseManager.StatisticType type) {
+        LongAdder[][] current = counters;
+        return ordinal >= 0 && ordinal < current[0].length ? current[type.ordinal()][ordinal].sum() : 0;
+    }
+
+    /**
+     * Take and reset the pending deltas of one statistic
+     *
+     * @return Deltas indexed by ordinal; zero where nothing was counted
+     */
+    public long[] drain(DatabaseManager.StatisticType type) {
+        LongAdder[] row = counters[type.ordinal()];
+        long[] deltas = new long[row.length];
+        for (int ordinal = 0; ordinal < row.length; ordinal++) {
+            deltas[ordinal] = row[ordinal].sumThenReset();
+        }
+        return deltas;
+    }
+
+    /**
+     * Put deltas back after a failed write, so they go out with the next flush
+     */
+    public void restore(DatabaseManager.StatisticType type, long[] deltas) {
+        for (int ordinal = 0; ordinal < deltas.length; ordinal++) {
+            if (deltas[ordinal] != 0) {
+                add(ordinal, type, deltas[ordinal]);
+            }
+        }
+    }
+
+    private synchronized LongAdder[][] grow(int ordinal) {
+        LongAdder[][] current = counters;
+        if (ordinal < current[0].length) {
+            return current;
+        }
+
+        // Existing adders are carried over, so no concurrent increment is lost
+        LongAdder[][] next = allocate(Math.max(ordinal + 1, current[0].length * 2));
+        for (int type = 0; type < current.length; type++) {
+            System.arraycopy(current[type], 0, next[type], 0, current[type].length);
+        }
+        counters = next;
+        return next;
+    }
+
+    private static LongAdder[][] allocate(int capacity) {
+        LongAdder[][] counters = new LongAdder[TYPES.length][capacity];
+        for (LongAdder[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new LongAdder();
+            }
+        }
+        return counters;
+    }
+}
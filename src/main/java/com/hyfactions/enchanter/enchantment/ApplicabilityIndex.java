@@ -0,0 +1,100 @@
+package com.hyfactions.enchanter.enchantment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Item type to applicable enchantments index
+ *
+ * Each item type is matched against every definition once, the first time
+ * it is seen; later lookups are a single map read. Built for one set of
+ * definitions - the manager replaces the whole index on reload.
+ */
+public class ApplicabilityIndex {
+
+    // Item types are a small fixed set in practice; this only guards against junk input
+    private static final int MAX_ITEM_TYPES = 4096;
+
+    private final CustomEnchantment[] definitions;
+    private final Map<String, Entry> entries;
+
+    public ApplicabilityIndex(CustomEnchantment[] definitions) {
+        this.definitions = definitions;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the index entry for an item type, building it on first use
+     */
+    public Entry get(String itemType) {
+        Entry entry = entries.get(itemType);
+        if (entry != null) {
+            return entry;
+        }
+
+        String normalized = itemType.toUpperCase(Locale.ROOT);
+        entry = entries.get(normalized);
+        if (entry == null) {
+            if (entries.size() >= MAX_ITEM_TYPES) {
+                entries.clear();
+            }
+            entry = entries.computeIfAbsent(normalized, this::build);
+        }
+        return entry;
+    }
+
+    private Entry build(String itemType) {
+        long[] bits = new long[Math.max(1, (definitions.length + 63) >>> 6)];
+        List<CustomEnchantment> applicable = new ArrayList<>();
+
+        for (int ordinal = 0; ordinal < definitions.length; ordinal++) {
+            CustomEnchantment enchantment = definitions[ordinal];
+            if (enchantment != null && enchantment.canApplyTo(itemType)) {
+                bits[ordinal >>> 6] |= 1L << ordinal;
+                applicable.add(enchantment);
+            }
+        }
+        return new Entry(bits, Collections.unmodifiableList(applicable));
+    }
+
+    /**
+     * Enchantments applicable to one item type
+     */
+    public static final class Entry {
+
+        private final long[] bits;
+        private final List<CustomEnchantment> enchantments;
+
+        private Entry(long[] bits, List<CustomEnchantment> enchantments) {
+            this.bits = bits;
+            this.enchantments = enchantments;
+        }
+
+        /**
+         * Check if an enchantment can be applied
+         */
+        public boolean contains(int ordinal) {
+            if (ordinal < 0) return false;
+            int word = ordinal >>> 6;
+            return word < bits.length && (bits[word] & (1L << ordinal)) != 0;
+        }
+
+        /**
+         * Applicable enchantments, in ordinal order (immutable)
+         */
+        public List<CustomEnchantment> getEnchantments() {
+            return enchantments;
+        }
+
+        /**
+         * Bitmask of applicable ordinals below 64, comparable with {@link EnchantmentSet#mask()}
+         */
+        public long mask() {
+            return bits[0];
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.hyfactions.enchanter.enchantment;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.Singular;
+import lombok.ToString;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -146,12 +151,80 @@ public class CustomEnchantment {
      * Represents a specific level of an enchantment
      */
     @Data
-    @Builder
     public static class EnchantmentLevel {
         private final int level;
         private final double cost;
         private final Map<String, Object> properties;
 
+        // Numeric properties compiled into slots owned by PropertyKey; NaN / MIN_VALUE mean absent
+        @Getter(AccessLevel.NONE)
+        @EqualsAndHashCode.Exclude
+        @ToString.Exclude
+        private final double[] doubleValues;
+
+        @Getter(AccessLevel.NONE)
+        @EqualsAndHashCode.Exclude
+        @ToString.Exclude
+        private final int[] intValues;
+
+        @Builder
+        public EnchantmentLevel(int level, double cost, Map<String, Object> properties) {
+            this.level = level;
+            this.cost = cost;
+            this.properties = properties;
+
+            // Resolve every numeric property to its key once, at load time
+            if (properties != null) {
+                for (Map.Entry<String, Object> entry : properties.entrySet()) {
+                    if (entry.getValue() instanceof Number && PropertyKey.byName(entry.getKey()) == null) {
+                        PropertyKey.doubleKey(entry.getKey());
+                    }
+                }
+            }
+
+            this.doubleValues = new double[PropertyKey.doubleSlots()];
+            this.intValues = new int[PropertyKey.intSlots()];
+            Arrays.fill(doubleValues, Double.NaN);
+            Arrays.fill(intValues, Integer.MIN_VALUE);
+
+            if (properties != null) {
+                for (Map.Entry<String, Object> entry : properties.entrySet()) {
+                    if (!(entry.getValue() instanceof Number number)) continue;
+
+                    PropertyKey<?> key = PropertyKey.byName(entry.getKey());
+                    if (key.isInteger()) {
+                        intValues[key.getSlot()] = number.intValue();
+                    } else {
+                        doubleValues[key.getSlot()] = number.doubleValue();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Get a compiled double property
+         * Hot path - a bounds check and an array load.
+         */
+        public double get(PropertyKey<Double> key, double defaultValue) {
+            int slot = key.getSlot();
+            if (slot >= doubleValues.length) return defaultValue;
+
+            double value = doubleValues[slot];
+            return Double.isNaN(value) ? defaultValue : value;
+        }
+
+        /**
+         * Get a compiled integer property
+         * Hot path - a bounds check and an array load.
+         */
+        public int get(PropertyKey<Integer> key, int defaultValue) {
+            int slot = key.getSlot();
+            if (slot >= intValues.length) return defaultValue;
+
+            int value = intValues[slot];
+            return value == Integer.MIN_VALUE ? defaultValue : value;
+        }
+
         /**
          * Get a property value for this level
          */
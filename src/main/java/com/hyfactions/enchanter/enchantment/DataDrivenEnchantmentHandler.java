@@ -0,0 +1,19 @@
+package com.hyfactions.enchanter.enchantment;
+
+/**
+ * Handler for enchantments defined purely in enchantments.yml
+ * Effects are driven by the definition's compiled level properties.
+ */
+public class DataDrivenEnchantmentHandler implements EnchantmentHandler {
+
+    private final CustomEnchantment enchantment;
+
+    public DataDrivenEnchantmentHandler(CustomEnchantment enchantment) {
+        this.enchantment = enchantment;
+    }
+
+    @Override
+    public CustomEnchantment getEnchantment() {
+        return enchantment;
+    }
+}
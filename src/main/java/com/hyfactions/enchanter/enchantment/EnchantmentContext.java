@@ -1,22 +1,43 @@
 package com.hyfactions.enchanter.enchantment;
 
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+
+import com.hypixel.hytale.server.core.entity.LivingEntity;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.item.ItemStack;
 import com.hypixel.hytale.server.core.world.World;
 
-import lombok.Builder;
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Context object passed to enchantment handlers
  * Contains all relevant information about the enchantment event
+ *
+ * Contexts are recycled: each thread keeps a small stack of them, and a
+ * dispatch borrows one with {@link #acquire()} and hands it back with
+ * {@link #release()} in a finally block. The same context is passed to
+ * every handler of the dispatch - only the enchantment fields change - so
+ * a hit allocates nothing. Handlers must not keep a reference to the
+ * context after they return.
  */
-@Data
-@Builder
-public class EnchantmentContext {
+@Getter
+@Setter
+public final class EnchantmentContext {
+
+    // Size of the scratch area
+    public static final int SCRATCH_SLOTS = 8;
+
+    // Scratch slots with a fixed meaning
+    public static final int SLOT_HEAL_AMOUNT = 0;
+
+    // Nested dispatches per thread before contexts stop being pooled
+    private static final int MAX_DEPTH = 8;
+
+    private static final ThreadLocal<Pool> POOL = ThreadLocal.withInitial(Pool::new);
 
     // Core objects with Hytale types
     private Player player;
@@ -24,77 +45,180 @@ public class EnchantmentContext {
     private Object event; // Keep as Object since event types vary
     private World world;
 
-    // Enchantment details
+    // Enchantment details, updated per handler
     private String enchantmentId;
+    private int ordinal = -1;
     private int level;
 
-    // Event-specific data
-    @Builder.Default
-    private Map<String, Object> data = new HashMap<>();
+    // Event participants
+    private LivingEntity target;
+    private LivingEntity attacker;
+    private Object block; // Depends on Hytale block API
+
+    // Damage as dealt by the event, and after handlers have adjusted it
+    private double baseDamage;
+    private double damage;
 
     // Faction context (if applicable)
     private Object faction; // Depends on faction plugin
     private boolean inFactionTerritory;
     private boolean inRaid;
 
+    // Per-dispatch scratch area shared by the handlers
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final double[] scratchValues = new double[SCRATCH_SLOTS];
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Object[] scratchObjects = new Object[SCRATCH_SLOTS];
+
+    // Owning pool, null for overflow contexts
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Pool pool;
+
+    private EnchantmentContext(Pool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Borrow a cleared context for the current thread
+     * Must be paired with {@link #release()}, innermost first.
+     */
+    public static EnchantmentContext acquire() {
+        Pool pool = POOL.get();
+        if (pool.depth == MAX_DEPTH) {
+            // Unusually deep re-entry; fall back to a throwaway context
+            return new EnchantmentContext(null);
+        }
+
+        EnchantmentContext context = pool.contexts[pool.depth];
+        if (context == null) {
+            context = new EnchantmentContext(pool);
+            pool.contexts[pool.depth] = context;
+        }
+        pool.depth++;
+        return context;
+    }
+
     /**
-     * Add custom data to the context
+     * Clear the context and return it to its thread's pool
      */
-    public void setData(String key, Object value) {
-        data.put(key, value);
+    public void release() {
+        player = null;
+        item = null;
+        event = null;
+        world = null;
+        enchantmentId = null;
+        ordinal = -1;
+        level = 0;
+        target = null;
+        attacker = null;
+        block = null;
+        baseDamage = 0;
+        damage = 0;
+        faction = null;
+        inFactionTerritory = false;
+        inRaid = false;
+        Arrays.fill(scratchValues, 0);
+        Arrays.fill(scratchObjects, null);
+
+        if (pool != null) {
+            pool.depth--;
+        }
     }
 
     /**
-     * Get custom data from the context
+     * Point the context at the next handler of the dispatch
      */
-    public Object getData(String key) {
-        return data.get(key);
+    public EnchantmentContext forEnchantment(CustomEnchantment enchantment, int ordinal, int level) {
+        this.enchantmentId = enchantment.getId();
+        this.ordinal = ordinal;
+        this.level = level;
+        return this;
     }
 
     /**
-     * Get data with type casting
+     * Set the damage of the event, before any handler adjusts it
      */
-    @SuppressWarnings("unchecked")
-    public <T> T getData(String key, Class<T> type) {
-        Object value = data.get(key);
-        if (value == null) {
-            return null;
-        }
-        try {
-            return (T) value;
-        } catch (ClassCastException e) {
-            return null;
-        }
+    public void initDamage(double damage) {
+        this.baseDamage = damage;
+        this.damage = damage;
+    }
+
+    /**
+     * Add to the accumulated damage
+     */
+    public void addDamage(double amount) {
+        damage += amount;
     }
 
     /**
-     * Check if data exists
+     * Multiply the accumulated damage
      */
-    public boolean hasData(String key) {
-        return data.containsKey(key);
+    public void multiplyDamage(double factor) {
+        damage *= factor;
+    }
+
+    /**
+     * Run cosmetic work (particles, sounds, messages) within the world's time budget
+     * Runs now if budget is left, otherwise on a later tick, so the task must
+     * not capture the context itself.
+     */
+    public void defer(Runnable task) {
+        HyFactionsEnchanter.getInstance().getTickBudgetManager().defer(world, task);
+    }
+
+    /**
+     * Set a numeric scratch value
+     */
+    public void setScratch(int slot, double value) {
+        scratchValues[slot] = value;
+    }
+
+    /**
+     * Get a numeric scratch value, 0 if unset
+     */
+    public double getScratch(int slot) {
+        return scratchValues[slot];
+    }
+
+    /**
+     * Set an object scratch value
+     */
+    public void setScratchObject(int slot, Object value) {
+        scratchObjects[slot] = value;
+    }
+
+    /**
+     * Get an object scratch value with type checking
+     *
+     * @return The value, or null if unset or of another type
+     */
+    public <T> T getScratchObject(int slot, Class<T> type) {
+        Object value = scratchObjects[slot];
+        return type.isInstance(value) ? type.cast(value) : null;
     }
 
     /**
      * Get event as a specific type
      */
-    @SuppressWarnings("unchecked")
     public <T> T getEvent(Class<T> type) {
-        try {
-            return (T) event;
-        } catch (ClassCastException e) {
-            return null;
-        }
+        return type.isInstance(event) ? type.cast(event) : null;
     }
 
     /**
      * Get faction as a specific type
      */
-    @SuppressWarnings("unchecked")
     public <T> T getFaction(Class<T> type) {
-        try {
-            return (T) faction;
-        } catch (ClassCastException e) {
-            return null;
-        }
+        return type.isInstance(faction) ? type.cast(faction) : null;
+    }
+
+    /**
+     * Per-thread stack of contexts
+     */
+    private static final class Pool {
+        private final EnchantmentContext[] contexts = new EnchantmentContext[MAX_DEPTH];
+        private int depth;
     }
 }
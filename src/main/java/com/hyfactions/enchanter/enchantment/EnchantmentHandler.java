@@ -3,6 +3,10 @@ package com.hyfactions.enchanter.enchantment;
 /**
  * Base interface for enchantment handlers
  * Each enchantment implements this to define its behavior
+ *
+ * Event behavior comes from the interfaces in the trigger package
+ * (AttackTrigger, DefendTrigger, ...). A handler is only dispatched to for
+ * the triggers it implements.
  */
 public interface EnchantmentHandler {
 
@@ -31,16 +35,6 @@ public interface EnchantmentHandler {
         // Default: do nothing
     }
 
-    /**
-     * Called periodically while the enchantment is active
-     * Useful for passive effects
-     *
-     * @param context The tick context
-     */
-    default void onTick(EnchantmentContext context) {
-        // Default: do nothing
-    }
-
     /**
      * Get the priority for this enchantment
      * Higher priority enchantments are processed first
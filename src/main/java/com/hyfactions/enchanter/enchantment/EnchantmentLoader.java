@@ -0,0 +1,174 @@
+package com.hyfactions.enchanter.enchantment;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.config.DefaultFiles;
+import com.hyfactions.enchanter.config.YamlReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reads enchantment definitions from enchantments.yml
+ *
+ * Each top-level section becomes a {@link CustomEnchantment}, bound to the
+ * behavior registered for its ID or to a {@link DataDrivenEnchantmentHandler}.
+ * Reads the data folder copy, saving the bundled default there on first load.
+ */
+public class EnchantmentLoader {
+
+    private static final String FILE_NAME = "enchantments.yml";
+
+    // Keys with a dedicated field on CustomEnchantment; anything else becomes a custom property
+    private static final Set<String> KNOWN_KEYS = Set.of("tier", "category", "type", "display-name",
+            "description", "max-level", "levels", "applicable-items", "conflicts", "synergies",
+            "requires-faction", "required-faction-power", "particle", "sound");
+
+    private final HyFactionsEnchanter plugin;
+
+    // Enchantment ID -> handler factory, for enchantments with behavior beyond their data
+    private final Map<String, Function<CustomEnchantment, EnchantmentHandler>> behaviors;
+
+    public EnchantmentLoader(HyFactionsEnchanter plugin) {
+        this.plugin = plugin;
+        this.behaviors = new HashMap<>();
+    }
+
+    /**
+     * Bind an enchantment ID to a handler with custom behavior
+     */
+    public void registerBehavior(String enchantmentId, Function<CustomEnchantment, EnchantmentHandler> factory) {
+        behaviors.put(EnchantmentManager.normalizeId(enchantmentId), factory);
+    }
+
+    /**
+     * Read every definition and bind it to a handler
+     * Sections that fail to parse are logged and skipped.
+     *
+     * @throws IOException If the file cannot be read at all
+     */
+    public List<EnchantmentHandler> load() throws IOException {
+        Map<String, Object> root;
+        try (Reader reader = open()) {
+            root = YamlReader.read(reader);
+        }
+
+        List<EnchantmentHandler> handlers = new ArrayList<>(root.size());
+        for (Map.Entry<String, Object> entry : root.entrySet()) {
+            String id = EnchantmentManager.normalizeId(entry.getKey());
+
+            if (!(entry.getValue() instanceof Map<?, ?> section)) {
+                plugin.getLogger().warning("Skipping enchantment " + id + ": not a section");
+                continue;
+            }
+
+            try {
+                CustomEnchantment enchantment = parse(id, section);
+                Function<CustomEnchantment, EnchantmentHandler> factory = behaviors.get(id);
+                handlers.add(factory != null ? factory.apply(enchantment) : new DataDrivenEnchantmentHandler(enchantment));
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Skipping enchantment " + id + ": " + e.getMessage());
+            }
+        }
+        return handlers;
+    }
+
+    private Reader open() throws IOException {
+        return DefaultFiles.open(plugin, FILE_NAME);
+    }
+
+    /**
+     * Build a definition from one section
+     */
+    private CustomEnchantment parse(String id, Map<?, ?> section) {
+        int maxLevel = intValue(section.get("max-level"), 1);
+
+        // Levels: cost is a field, everything else a compiled property
+        Map<Integer, CustomEnchantment.EnchantmentLevel> levels = new HashMap<>();
+        if (section.get("levels") instanceof Map<?, ?> levelSection) {
+            for (Map.Entry<?, ?> levelEntry : levelSection.entrySet()) {
+                int level = Integer.parseInt(String.valueOf(levelEntry.getKey()).trim());
+                Map<String, Object> properties = new LinkedHashMap<>();
+                double cost = 0;
+
+                if (levelEntry.getValue() instanceof Map<?, ?> values) {
+                    for (Map.Entry<?, ?> value : values.entrySet()) {
+                        String key = String.valueOf(value.getKey());
+                        if (key.equals("cost")) {
+                            cost = doubleValue(value.getValue(), 0);
+                        } else {
+                            properties.put(key, value.getValue());
+                        }
+                    }
+                }
+
+                levels.put(level, CustomEnchantment.EnchantmentLevel.builder()
+                        .level(level)
+                        .cost(cost)
+                        .properties(Collections.unmodifiableMap(properties))
+                        .build());
+            }
+        }
+
+        // Anything we do not model is kept for specific handlers
+        Map<String, Object> customProperties = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : section.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            if (!KNOWN_KEYS.contains(key)) {
+                customProperties.put(key, entry.getValue());
+            }
+        }
+
+        return CustomEnchantment.builder()
+                .id(id)
+                .displayName(stringValue(section.get("display-name"), id))
+                .description(stringList(section.get("description"), false))
+                .tier(EnchantmentTier.valueOf(EnchantmentManager.normalizeId(stringValue(section.get("tier"), "COMMON"))))
+                .category(EnchantmentCategory.valueOf(EnchantmentManager.normalizeId(stringValue(section.get("category"), "UTILITY"))))
+                .type(EnchantmentType.fromString(stringValue(section.get("type"), "ALL")))
+                .maxLevel(maxLevel)
+                .levels(Collections.unmodifiableMap(levels))
+                .applicableItems(stringList(section.get("applicable-items"), true))
+                .conflicts(stringList(section.get("conflicts"), true))
+                .synergies(stringList(section.get("synergies"), true))
+                .requiresFaction(Boolean.TRUE.equals(section.get("requires-faction")))
+                .requiredFactionPower(intValue(section.get("required-faction-power"), 0))
+                .particle(stringValue(section.get("particle"), null))
+                .sound(stringValue(section.get("sound"), null))
+                .customProperties(Collections.unmodifiableMap(customProperties))
+                .build();
+    }
+
+    private static List<String> stringList(Object value, boolean normalize) {
+        if (!(value instanceof List<?> list)) {
+            return List.of();
+        }
+
+        List<String> strings = new ArrayList<>(list.size());
+        for (Object item : list) {
+            if (item == null) continue;
+            String text = String.valueOf(item);
+            strings.add(normalize ? EnchantmentManager.normalizeId(text) : text);
+        }
+        return strings;
+    }
+
+    private static String stringValue(Object value, String defaultValue) {
+        return value != null ? String.valueOf(value) : defaultValue;
+    }
+
+    private static int intValue(Object value, int defaultValue) {
+        return value instanceof Number number ? number.intValue() : defaultValue;
+    }
+
+    private static double doubleValue(Object value, double defaultValue) {
+        return value instanceof Number number ? number.doubleValue() : defaultValue;
+    }
+}
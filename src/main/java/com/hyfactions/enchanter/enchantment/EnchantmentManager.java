@@ -1,206 +1,334 @@
 package com.hyfactions.enchanter.enchantment;
 
 import com.hyfactions.enchanter.HyFactionsEnchanter;
-import com.hyfactions.enchanter.enchantment.impl.*;
+import com.hyfactions.enchanter.enchantment.impl.LifestealEnchantment;
+import com.hyfactions.enchanter.util.EnchantmentCache;
+import com.hyfactions.enchanter.util.LoreCache;
 import lombok.Getter;
 
+import java.io.IOException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Manages all custom enchantments
  * Handles registration, lookup, and enchantment operations
+ *
+ * All registry data lives in an immutable {@link RegistrySnapshot}. Loads,
+ * reloads and registrations build a complete new snapshot and publish it
+ * with a single volatile write, so lookups never lock and never observe a
+ * registry that is being rebuilt.
  */
 public class EnchantmentManager {
 
     private final HyFactionsEnchanter plugin;
 
+    // Stable ID -> ordinal table used by the item codec
     @Getter
-    private final Map<String, CustomEnchantment> enchantments;
+    private final EnchantmentOrdinals ordinals;
 
+    // Decoded item enchantments, keyed by item identity
     @Getter
-    private final Map<String, EnchantmentHandler> handlers;
+    private final EnchantmentCache itemCache;
 
-    // Cache for performance
-    private final Map<EnchantmentTier, List<CustomEnchantment>> enchantmentsByTier;
-    private final Map<EnchantmentCategory, List<CustomEnchantment>> enchantmentsByCategory;
+    // Rendered lore, keyed by enchantment set
+    @Getter
+    private final LoreCache loreCache;
+
+    // Reads enchantments.yml
+    private final EnchantmentLoader loader;
+
+    // Current registry, replaced as a whole
+    private volatile RegistrySnapshot snapshot;
+
+    // Serializes writers; readers never take it
+    private final Object registrationLock = new Object();
 
     public EnchantmentManager(HyFactionsEnchanter plugin) {
         this.plugin = plugin;
-        this.enchantments = new ConcurrentHashMap<>();
-        this.handlers = new ConcurrentHashMap<>();
-        this.enchantmentsByTier = new EnumMap<>(EnchantmentTier.class);
-        this.enchantmentsByCategory = new EnumMap<>(EnchantmentCategory.class);
+        this.ordinals = new EnchantmentOrdinals(plugin);
+        this.itemCache = new EnchantmentCache(plugin.getConfigManager().getCacheSize());
+        this.loreCache = new LoreCache(plugin.getConfigManager().getCacheSize());
+        this.loader = new EnchantmentLoader(plugin);
+        this.snapshot = RegistrySnapshot.EMPTY;
+
+        // Enchantments with behavior beyond their config data
+        loader.registerBehavior("LIFESTEAL", LifestealEnchantment::new);
     }
 
     /**
      * Load all enchantments from configuration
+     * The previous registry stays live until the new one is complete, and is
+     * kept if enchantments.yml cannot be read.
      */
     public void loadEnchantments() {
         plugin.getLogger().info("Loading enchantments...");
+        long start = System.nanoTime();
+
+        synchronized (registrationLock) {
+            // Ordinals must be known before anything is registered
+            ordinals.load();
+
+            List<EnchantmentHandler> handlers;
+            try {
+                handlers = loader.load();
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to load enchantments.yml, keeping current enchantments: " + e.getMessage());
+                return;
+            }
+
+            // Build every index off to the side, persist any newly assigned ordinals in one write, then publish
+            RegistrySnapshot built = RegistrySnapshot.build(handlers, ordinals, this::warnDuplicate);
+            ordinals.save();
+            publish(built);
+        }
 
-        // Clear existing data
-        enchantments.clear();
-        handlers.clear();
-        enchantmentsByTier.clear();
-        enchantmentsByCategory.clear();
-
-        // Load enchantments from config
-        // ConfigurationSection enchantsConfig = plugin.getConfig().getConfigurationSection("enchantments");
-        // This would load from enchantments.yml in a real implementation
-
-        // For now, register hardcoded enchantments
-        registerDefaultEnchantments();
-
-        // Build caches
-        buildCaches();
-
-        plugin.getLogger().info("Loaded " + enchantments.size() + " enchantments.");
+        double elapsed = (System.nanoTime() - start) / 1_000_000.0;
+        plugin.getLogger().info("Loaded " + snapshot.getEnchantments().size() + " enchantments in "
+                + String.format("%.1f", elapsed) + "ms.");
     }
 
     /**
-     * Register default enchantments
-     * In production, these would be loaded from enchantments.yml
+     * Register a custom enchantment
+     * Rebuilds the registry with the new entry; meant for startup, not per-event use.
      */
-    private void registerDefaultEnchantments() {
-        // Combat enchantments
-        registerEnchantment(new LifestealEnchantment());
-        registerEnchantment(new CriticalStrikeEnchantment());
-        registerEnchantment(new SharpnessBoostEnchantment());
-        registerEnchantment(new PoisonStrikeEnchantment());
-        registerEnchantment(new FireAspectBoostEnchantment());
+    public void registerEnchantment(EnchantmentHandler handler) {
+        synchronized (registrationLock) {
+            String id = normalizeId(handler.getEnchantment().getId());
+            RegistrySnapshot current = snapshot;
+
+            if (current.getEnchantment(id) != null) {
+                warnDuplicate(id);
+                return;
+            }
+
+            List<EnchantmentHandler> handlers = new ArrayList<>(current.getRegistered());
+            handlers.add(handler);
+            RegistrySnapshot built = RegistrySnapshot.build(handlers, ordinals, this::warnDuplicate);
+            ordinals.save();
+            publish(built);
+
+            plugin.getLogger().fine("Registered enchantment: " + id + " (ordinal " + ordinals.lookup(id) + ")");
+        }
+    }
 
-        // Armor enchantments
-        registerEnchantment(new IronSkinEnchantment());
-        registerEnchantment(new ThornsBoostEnchantment());
-        registerEnchantment(new RegenerationAuraEnchantment());
-        registerEnchantment(new FeatherFallingBoostEnchantment());
+    /**
+     * Swap in a new registry
+     */
+    private void publish(RegistrySnapshot next) {
+        snapshot = next;
 
-        // Utility enchantments
-        registerEnchantment(new HasteEnchantment());
-        registerEnchantment(new AutoSmeltEnchantment());
-        registerEnchantment(new FortuneBoostEnchantment());
-        registerEnchantment(new SilkTouchBoostEnchantment());
-        registerEnchantment(new ExperienceBoostEnchantment());
-        registerEnchantment(new SpeedEnchantment());
+        // Display names may have changed; ordinals have not, so decoded items stay valid
+        loreCache.clear();
+    }
 
-        // Faction enchantments
-        registerEnchantment(new TerritoryGuardEnchantment());
-        registerEnchantment(new RaidMasterEnchantment());
-        registerEnchantment(new ResourceBlessingEnchantment());
-        registerEnchantment(new AllyProtectionEnchantment());
+    private void warnDuplicate(String id) {
+        plugin.getLogger().warning("Enchantment " + id + " is already registered! Skipping...");
     }
 
     /**
-     * Register a custom enchantment
+     * Get the current registry snapshot
+     * Hold on to it for the duration of one event to read a consistent registry.
      */
-    public void registerEnchantment(EnchantmentHandler handler) {
-        CustomEnchantment enchantment = handler.getEnchantment();
-        String id = enchantment.getId().toUpperCase();
+    public RegistrySnapshot getSnapshot() {
+        return snapshot;
+    }
 
-        if (enchantments.containsKey(id)) {
-            plugin.getLogger().warning("Enchantment " + id + " is already registered! Skipping...");
-            return;
-        }
+    /**
+     * Normalize an enchantment ID as typed by a player or read from config
+     * Do this once when the ID enters the plugin, not on every lookup.
+     */
+    public static String normalizeId(String id) {
+        return id.trim().toUpperCase(Locale.ROOT);
+    }
 
-        enchantments.put(id, enchantment);
-        handlers.put(id, handler);
+    /**
+     * Get all registered enchantments, keyed by ID (immutable)
+     */
+    public Map<String, CustomEnchantment> getEnchantments() {
+        return snapshot.getEnchantments();
+    }
 
-        plugin.getLogger().fine("Registered enchantment: " + id);
+    /**
+     * Get all registered handlers, keyed by ID (immutable)
+     */
+    public Map<String, EnchantmentHandler> getHandlers() {
+        return snapshot.getHandlers();
     }
 
     /**
      * Get an enchantment by ID
      */
     public CustomEnchantment getEnchantment(String id) {
-        return enchantments.get(id.toUpperCase());
+        // Registered IDs are already normalized, so only unnormalized input pays for toUpperCase
+        RegistrySnapshot current = snapshot;
+        CustomEnchantment enchantment = current.getEnchantment(id);
+        return enchantment != null ? enchantment : current.getEnchantment(normalizeId(id));
+    }
+
+    /**
+     * Get an enchantment by ordinal
+     *
+     * @return The enchantment, or null if nothing is registered under the ordinal
+     */
+    public CustomEnchantment getEnchantment(int ordinal) {
+        return snapshot.getEnchantment(ordinal);
     }
 
     /**
      * Get an enchantment handler by ID
      */
     public EnchantmentHandler getHandler(String id) {
-        return handlers.get(id.toUpperCase());
+        RegistrySnapshot current = snapshot;
+        EnchantmentHandler handler = current.getHandler(id);
+        return handler != null ? handler : current.getHandler(normalizeId(id));
+    }
+
+    /**
+     * Get an enchantment handler by ordinal
+     *
+     * @return The handler, or null if nothing is registered under the ordinal
+     */
+    public EnchantmentHandler getHandler(int ordinal) {
+        return snapshot.getHandler(ordinal);
+    }
+
+    /**
+     * Get the ordinal of a registered enchantment
+     *
+     * @return The ordinal, or -1 if the enchantment is not registered
+     */
+    public int getOrdinal(String id) {
+        RegistrySnapshot current = snapshot;
+        int ordinal = current.getOrdinal(id);
+        return ordinal >= 0 ? ordinal : current.getOrdinal(normalizeId(id));
     }
 
     /**
      * Get all enchantments of a specific tier
      */
     public List<CustomEnchantment> getEnchantmentsByTier(EnchantmentTier tier) {
-        return enchantmentsByTier.getOrDefault(tier, Collections.emptyList());
+        return snapshot.getEnchantmentsByTier(tier);
     }
 
     /**
      * Get all enchantments of a specific category
      */
     public List<CustomEnchantment> getEnchantmentsByCategory(EnchantmentCategory category) {
-        return enchantmentsByCategory.getOrDefault(category, Collections.emptyList());
+        return snapshot.getEnchantmentsByCategory(category);
     }
 
     /**
      * Get all enchantments applicable to an item type
      */
     public List<CustomEnchantment> getApplicableEnchantments(String itemType) {
-        return enchantments.values().stream()
-                .filter(e -> e.canApplyTo(itemType))
-                .collect(Collectors.toList());
+        return snapshot.getApplicability().get(itemType).getEnchantments();
+    }
+
+    /**
+     * Check if an enchantment can be applied to an item type
+     */
+    public boolean canApplyTo(int ordinal, String itemType) {
+        return snapshot.getApplicability().get(itemType).contains(ordinal);
+    }
+
+    /**
+     * Check if an enchantment can be applied to an item type
+     */
+    public boolean canApplyTo(String enchantId, String itemType) {
+        return canApplyTo(getOrdinal(enchantId), itemType);
     }
 
     /**
      * Check if two enchantments conflict
      */
     public boolean hasConflict(String enchantId1, String enchantId2) {
-        CustomEnchantment ench1 = getEnchantment(enchantId1);
-        CustomEnchantment ench2 = getEnchantment(enchantId2);
-
-        if (ench1 == null || ench2 == null) {
-            return false;
-        }
+        return hasConflict(getOrdinal(enchantId1), getOrdinal(enchantId2));
+    }
 
-        return ench1.conflictsWith(enchantId2) || ench2.conflictsWith(enchantId1);
+    /**
+     * Check if two enchantments conflict
+     * Either side declaring the conflict is enough.
+     */
+    public boolean hasConflict(int ordinal1, int ordinal2) {
+        return testBit(snapshot.conflictsOf(ordinal1), ordinal2);
     }
 
     /**
-     * Check if two enchantments have synergy
+     * Find an enchantment in a set that conflicts with a candidate
+     *
+     * @return The conflicting ordinal, or -1 if there is none
      */
-    public boolean hasSynergy(String enchantId1, String enchantId2) {
-        CustomEnchantment ench1 = getEnchantment(enchantId1);
-        CustomEnchantment ench2 = getEnchantment(enchantId2);
+    public int findConflict(int ordinal, EnchantmentSet enchantments) {
+        long[] bits = snapshot.conflictsOf(ordinal);
+        if (bits == null) return -1;
 
-        if (ench1 == null || ench2 == null) {
-            return false;
+        long hit = bits[0] & enchantments.mask();
+        if (hit != 0) {
+            return Long.numberOfTrailingZeros(hit);
+        }
+        if (enchantments.isCompact()) return -1;
+
+        // Ordinals past the mask
+        for (int i = 0; i < enchantments.size(); i++) {
+            int other = enchantments.ordinalAt(i);
+            if (other >= 64 && testBit(bits, other)) {
+                return other;
+            }
         }
+        return -1;
+    }
 
-        return ench1.hasSynergyWith(enchantId2) || ench2.hasSynergyWith(enchantId1);
+    /**
+     * Check if two enchantments have synergy
+     */
+    public boolean hasSynergy(String enchantId1, String enchantId2) {
+        return hasSynergy(getOrdinal(enchantId1), getOrdinal(enchantId2));
     }
 
     /**
-     * Get the total count of registered enchantments
+     * Check if two enchantments have synergy
+     * Either side declaring the synergy is enough.
      */
-    public int getEnchantmentCount() {
-        return enchantments.size();
+    public boolean hasSynergy(int ordinal1, int ordinal2) {
+        return testBit(snapshot.synergiesOf(ordinal1), ordinal2);
     }
 
     /**
-     * Build internal caches for fast lookup
+     * Count the synergy pairs active in a set of enchantments
+     * Used to scale effects by the configured synergy multiplier.
      */
-    private void buildCaches() {
-        // Cache by tier
-        for (EnchantmentTier tier : EnchantmentTier.values()) {
-            List<CustomEnchantment> tierList = enchantments.values().stream()
-                    .filter(e -> e.getTier() == tier)
-                    .collect(Collectors.toList());
-            enchantmentsByTier.put(tier, tierList);
+    public int getSynergyCount(EnchantmentSet enchantments) {
+        RegistrySnapshot current = snapshot;
+        int count = 0;
+
+        for (int i = 0; i < enchantments.size(); i++) {
+            long[] bits = current.synergiesOf(enchantments.ordinalAt(i));
+            if (bits == null) continue;
+
+            count += Long.bitCount(bits[0] & enchantments.mask());
+            if (!enchantments.isCompact()) {
+                for (int j = 0; j < enchantments.size(); j++) {
+                    int other = enchantments.ordinalAt(j);
+                    if (other >= 64 && testBit(bits, other)) count++;
+                }
+            }
         }
 
-        // Cache by category
-        for (EnchantmentCategory category : EnchantmentCategory.values()) {
-            List<CustomEnchantment> categoryList = enchantments.values().stream()
-                    .filter(e -> e.getCategory() == category)
-                    .collect(Collectors.toList());
-            enchantmentsByCategory.put(category, categoryList);
-        }
+        // Every pair was counted from both sides
+        return count / 2;
+    }
+
+    private static boolean testBit(long[] bits, int ordinal) {
+        if (bits == null || ordinal < 0) return false;
+        int word = ordinal >>> 6;
+        return word < bits.length && (bits[word] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Get the total count of registered enchantments
+     */
+    public int getEnchantmentCount() {
+        return snapshot.getEnchantments().size();
     }
 
     /**
@@ -217,24 +345,28 @@ public class EnchantmentManager {
     public void shutdown() {
         plugin.getLogger().info("Shutting down enchantment manager...");
 
-        // Clear all data
-        enchantments.clear();
-        handlers.clear();
-        enchantmentsByTier.clear();
-        enchantmentsByCategory.clear();
+        synchronized (registrationLock) {
+            // Ordinals are saved after every build; this only catches a failed earlier write
+            ordinals.save();
+
+            // Clear all data
+            snapshot = RegistrySnapshot.EMPTY;
+            itemCache.clear();
+            loreCache.clear();
+        }
     }
 
     /**
      * Get all registered enchantment IDs
      */
     public Set<String> getEnchantmentIds() {
-        return new HashSet<>(enchantments.keySet());
+        return snapshot.getEnchantments().keySet();
     }
 
     /**
      * Check if an enchantment exists
      */
     public boolean hasEnchantment(String id) {
-        return enchantments.containsKey(id.toUpperCase());
+        return getEnchantment(id) != null;
     }
 }
@@ -0,0 +1,166 @@
+package com.hyfactions.enchanter.enchantment;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stable enchantment ID to ordinal table
+ * Ordinals are what the binary item codec stores, so once an ID has been
+ * given an ordinal it keeps it forever, even if the enchantment is later
+ * removed from the registry. Only registry builds assign ordinals; the
+ * manager saves the table once per build, before items can store them.
+ */
+public class EnchantmentOrdinals {
+
+    private static final String FILE_NAME = "enchantment-ordinals.properties";
+
+    private final HyFactionsEnchanter plugin;
+
+    // ID -> ordinal, read on every decode
+    private final Map<String, Integer> ordinalsById;
+
+    // ordinal -> ID, replaced (never mutated) when an ordinal is assigned
+    private volatile String[] idsByOrdinal;
+
+    private boolean dirty;
+
+    public EnchantmentOrdinals(HyFactionsEnchanter plugin) {
+        this.plugin = plugin;
+        this.ordinalsById = new ConcurrentHashMap<>();
+        this.idsByOrdinal = new String[0];
+    }
+
+    /**
+     * Load the persisted table from the data folder
+     */
+    public synchronized void load() {
+        File file = new File(plugin.getDataFolder(), FILE_NAME);
+        if (!file.exists()) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = new FileReader(file)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to load enchantment ordinals: " + e.getMessage());
+            return;
+        }
+
+        // Work on a copy; the published array is never mutated
+        String[] ids = idsByOrdinal.clone();
+        for (String id : properties.stringPropertyNames()) {
+            try {
+                int ordinal = Integer.parseInt(properties.getProperty(id).trim());
+                if (ordinal < 0 || ordinal > Short.MAX_VALUE) continue;
+
+                if (ordinal >= ids.length) {
+                    ids = Arrays.copyOf(ids, ordinal + 1);
+                }
+                ids[ordinal] = id;
+                ordinalsById.put(id, ordinal);
+            } catch (NumberFormatException e) {
+                // Skip invalid entries
+            }
+        }
+        idsByOrdinal = ids;
+    }
+
+    /**
+     * Save the table to the data folder if any ordinal was assigned since the last save
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+
+        File dataFolder = plugin.getDataFolder();
+        if (!dataFolder.exists()) {
+            dataFolder.mkdirs();
+        }
+
+        Properties properties = new Properties();
+        String[] ids = idsByOrdinal;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != null) {
+                properties.setProperty(ids[i], String.valueOf(i));
+            }
+        }
+
+        try (Writer writer = new FileWriter(new File(dataFolder, FILE_NAME))) {
+            properties.store(writer, "HyFactions Enchanter - do not edit, item data depends on these values");
+            dirty = false;
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to save enchantment ordinals: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get the ordinal for an ID, assigning the next free one if the ID is new
+     */
+    public int ordinalFor(String id) {
+        Integer ordinal = ordinalsById.get(id);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        return assign(id);
+    }
+
+    /**
+     * Get the ordinal for an ID without assigning one
+     *
+     * @return The ordinal, or -1 if the ID has never been seen
+     */
+    public int lookup(String id) {
+        Integer ordinal = ordinalsById.get(id);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Get the ID stored under an ordinal
+     *
+     * @return The ID, or null if the ordinal is unassigned
+     */
+    public String idOf(int ordinal) {
+        String[] ids = idsByOrdinal;
+        return ordinal >= 0 && ordinal < ids.length ? ids[ordinal] : null;
+    }
+
+    /**
+     * Number of ordinals handed out so far
+     */
+    public int size() {
+        return idsByOrdinal.length;
+    }
+
+    private synchronized int assign(String id) {
+        Integer existing = ordinalsById.get(id);
+        if (existing != null) {
+            return existing;
+        }
+
+        String[] ids = idsByOrdinal;
+        if (ids.length > Short.MAX_VALUE) {
+            throw new IllegalStateException("Enchantment ordinal table is full");
+        }
+
+        int ordinal = ids.length;
+        String[] grown = Arrays.copyOf(ids, ordinal + 1);
+        grown[ordinal] = id;
+
+        ordinalsById.put(id, ordinal);
+        idsByOrdinal = grown;
+        dirty = true;
+        return ordinal;
+    }
+}
@@ -0,0 +1,254 @@
+package com.hyfactions.enchanter.enchantment;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of enchantments with their levels
+ *
+ * Entries are stored as parallel primitive arrays sorted by enchantment
+ * ordinal. Ordinals below 64 are also tracked in a bitmask, so for any
+ * registry of up to 64 enchantments contains/levelOf are a bit test plus
+ * a popcount. Larger ordinals fall back to a binary search.
+ */
+public final class EnchantmentSet {
+
+    public static final EnchantmentSet EMPTY = new EnchantmentSet(new short[0], new byte[0]);
+
+    private final short[] ordinals;
+    private final byte[] levels;
+    private final long mask;
+    private final int hash;
+
+    private EnchantmentSet(short[] ordinals, byte[] levels) {
+        this.ordinals = ordinals;
+        this.levels = levels;
+
+        long bits = 0;
+        for (short ordinal : ordinals) {
+            if (ordinal < 64) {
+                bits |= 1L << ordinal;
+            }
+        }
+        this.mask = bits;
+        this.hash = 31 * Arrays.hashCode(ordinals) + Arrays.hashCode(levels);
+    }
+
+    /**
+     * Create a set from unsorted entries
+     * Later entries win when an ordinal appears more than once; levels below 1 are dropped.
+     *
+     * @param ordinals Entry ordinals
+     * @param levels   Entry levels
+     * @param count    Number of entries to read
+     */
+    public static EnchantmentSet of(short[] ordinals, byte[] levels, int count) {
+        if (count <= 0) {
+            return EMPTY;
+        }
+
+        short[] sortedOrdinals = new short[count];
+        byte[] sortedLevels = new byte[count];
+        int size = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (levels[i] < 1) continue;
+
+            int index = Arrays.binarySearch(sortedOrdinals, 0, size, ordinals[i]);
+            if (index >= 0) {
+                sortedLevels[index] = levels[i];
+                continue;
+            }
+
+            // Insert keeping ordinals sorted
+            index = -index - 1;
+            System.arraycopy(sortedOrdinals, index, sortedOrdinals, index + 1, size - index);
+            System.arraycopy(sortedLevels, index, sortedLevels, index + 1, size - index);
+            sortedOrdinals[index] = ordinals[i];
+            sortedLevels[index] = levels[i];
+            size++;
+        }
+
+        if (size == 0) {
+            return EMPTY;
+        }
+        if (size < count) {
+            sortedOrdinals = Arrays.copyOf(sortedOrdinals, size);
+            sortedLevels = Arrays.copyOf(sortedLevels, size);
+        }
+        return new EnchantmentSet(sortedOrdinals, sortedLevels);
+    }
+
+    /**
+     * Number of enchantments in the set
+     */
+    public int size() {
+        return ordinals.length;
+    }
+
+    public boolean isEmpty() {
+        return ordinals.length == 0;
+    }
+
+    /**
+     * Ordinal of the entry at an index, in ascending ordinal order
+     */
+    public int ordinalAt(int index) {
+        return ordinals[index];
+    }
+
+    /**
+     * Level of the entry at an index
+     */
+    public int levelAt(int index) {
+        return levels[index];
+    }
+
+    /**
+     * Check if the set contains an enchantment
+     */
+    public boolean contains(int ordinal) {
+        if (ordinal < 64) {
+            return ordinal >= 0 && (mask & (1L << ordinal)) != 0;
+        }
+        return search(ordinal) >= 0;
+    }
+
+    /**
+     * Get the level of an enchantment
+     *
+     * @return The level, or 0 if not present
+     */
+    public int levelOf(int ordinal) {
+        int index = indexOf(ordinal);
+        return index >= 0 ? levels[index] : 0;
+    }
+
+    /**
+     * Get the index of an enchantment
+     *
+     * @return The index, or -1 if not present
+     */
+    public int indexOf(int ordinal) {
+        if (ordinal < 64) {
+            if (ordinal < 0 || (mask & (1L << ordinal)) == 0) {
+                return -1;
+            }
+            // Every lower ordinal is below 64 too, so its rank in the mask is its index
+            return Long.bitCount(mask & ((1L << ordinal) - 1));
+        }
+        int index = search(ordinal);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Copy of this set with an enchantment added or its level replaced
+     */
+    public EnchantmentSet with(int ordinal, int level) {
+        if (level < 1) {
+            return without(ordinal);
+        }
+
+        byte newLevel = (byte) Math.min(level, Byte.MAX_VALUE);
+        int index = search(ordinal);
+
+        if (index >= 0) {
+            if (levels[index] == newLevel) {
+                return this;
+            }
+            byte[] newLevels = levels.clone();
+            newLevels[index] = newLevel;
+            return new EnchantmentSet(ordinals, newLevels);
+        }
+
+        index = -index - 1;
+        short[] newOrdinals = new short[ordinals.length + 1];
+        byte[] newLevels = new byte[levels.length + 1];
+
+        System.arraycopy(ordinals, 0, newOrdinals, 0, index);
+        System.arraycopy(levels, 0, newLevels, 0, index);
+        newOrdinals[index] = (short) ordinal;
+        newLevels[index] = newLevel;
+        System.arraycopy(ordinals, index, newOrdinals, index + 1, ordinals.length - index);
+        System.arraycopy(levels, index, newLevels, index + 1, levels.length - index);
+
+        return new EnchantmentSet(newOrdinals, newLevels);
+    }
+
+    /**
+     * Copy of this set with an enchantment removed
+     */
+    public EnchantmentSet without(int ordinal) {
+        int index = indexOf(ordinal);
+        if (index < 0) {
+            return this;
+        }
+        if (ordinals.length == 1) {
+            return EMPTY;
+        }
+
+        short[] newOrdinals = new short[ordinals.length - 1];
+        byte[] newLevels = new byte[levels.length - 1];
+
+        System.arraycopy(ordinals, 0, newOrdinals, 0, index);
+        System.arraycopy(levels, 0, newLevels, 0, index);
+        System.arraycopy(ordinals, index + 1, newOrdinals, index, ordinals.length - index - 1);
+        System.arraycopy(levels, index + 1, newLevels, index, levels.length - index - 1);
+
+        return new EnchantmentSet(newOrdinals, newLevels);
+    }
+
+    /**
+     * Bitmask of the ordinals below 64 in this set
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * Check if every ordinal in this set is covered by {@link #mask()}
+     */
+    public boolean isCompact() {
+        return ordinals.length == 0 || ordinals[ordinals.length - 1] < 64;
+    }
+
+    /**
+     * Copy entries into caller-owned arrays, e.g. for encoding
+     *
+     * @return Number of entries copied
+     */
+    public int copyTo(short[] ordinalsOut, byte[] levelsOut) {
+        int count = Math.min(ordinals.length, Math.min(ordinalsOut.length, levelsOut.length));
+        System.arraycopy(ordinals, 0, ordinalsOut, 0, count);
+        System.arraycopy(levels, 0, levelsOut, 0, count);
+        return count;
+    }
+
+    private int search(int ordinal) {
+        return Arrays.binarySearch(ordinals, (short) ordinal);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EnchantmentSet other)) return false;
+        return hash == other.hash
+                && mask == other.mask
+                && Arrays.equals(ordinals, other.ordinals)
+                && Arrays.equals(levels, other.levels);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("EnchantmentSet[");
+        for (int i = 0; i < ordinals.length; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append(ordinals[i]).append(':').append(levels[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
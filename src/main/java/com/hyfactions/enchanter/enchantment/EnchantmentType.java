@@ -2,6 +2,10 @@ package com.hyfactions.enchanter.enchantment;
 
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Types of items that can receive enchantments
  */
@@ -12,6 +16,18 @@ public enum EnchantmentType {
     TOOL("Tool", "PICKAXE", "SHOVEL", "AXE", "HOE"),
     ALL("All", "*");
 
+    // Item keyword -> category bits of every type listing it (AXE is both WEAPON and TOOL)
+    private static final Map<String, Integer> KEYWORD_CATEGORIES = new HashMap<>();
+
+    static {
+        for (EnchantmentType type : values()) {
+            if (type == ALL) continue;
+            for (String keyword : type.applicableItems) {
+                KEYWORD_CATEGORIES.merge(keyword, 1 << type.ordinal(), (a, b) -> a | b);
+            }
+        }
+    }
+
     private final String displayName;
     private final String[] applicableItems;
 
@@ -36,6 +52,31 @@ public enum EnchantmentType {
         return false;
     }
 
+    /**
+     * Get the item categories an item type falls into
+     * Bit {@code 1 << ordinal()} is set for each matching type other than ALL.
+     * The type is split on non-alphanumeric characters and each token must
+     * equal a keyword, so IRON_PICKAXE is a TOOL but not a WEAPON.
+     */
+    public static int categoriesOf(String itemType) {
+        if (itemType == null || itemType.isEmpty()) {
+            return 0;
+        }
+
+        String upper = itemType.toUpperCase(Locale.ROOT);
+        int categories = 0;
+        int start = 0;
+        for (int i = 0; i <= upper.length(); i++) {
+            if (i < upper.length() && Character.isLetterOrDigit(upper.charAt(i))) continue;
+
+            if (i > start) {
+                categories |= KEYWORD_CATEGORIES.getOrDefault(upper.substring(start, i), 0);
+            }
+            start = i + 1;
+        }
+        return categories;
+    }
+
     /**
      * Get type from string name
      */
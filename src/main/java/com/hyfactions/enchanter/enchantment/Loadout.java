@@ -0,0 +1,186 @@
+package com.hyfactions.enchanter.enchantment;
+
+import com.hyfactions.enchanter.util.ItemUtil;
+
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.item.ItemStack;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of the enchantments a player has equipped
+ *
+ * Merges the held item and the armor slots so combat code reads one object
+ * instead of touching the inventory and decoding items on every hit.
+ * Recomputed only when equipment changes.
+ */
+@Getter
+public final class Loadout {
+
+    private static final EnchantmentSet[] NO_PIECES = new EnchantmentSet[0];
+
+    public static final Loadout EMPTY = new Loadout(EnchantmentSet.EMPTY, EnchantmentSet.EMPTY,
+            new byte[0], NO_PIECES, EnchantmentSet.EMPTY, EnchantmentSet.EMPTY, "", 0);
+
+    // Enchantments on the held item
+    private final EnchantmentSet held;
+
+    // Enchantments across all armor pieces, levels summed
+    private final EnchantmentSet armor;
+
+    // Number of armor pieces carrying each armor enchantment, parallel to armor's indices
+    @Getter(AccessLevel.NONE)
+    private final byte[] armorPieces;
+
+    // Enchantments of each enchanted armor piece, for stats that add up per piece
+    @Getter(AccessLevel.NONE)
+    private final EnchantmentSet[] armorSets;
+
+    // Held item and armor together, levels summed
+    private final EnchantmentSet combined;
+
+    // Held item and armor together, highest level on any single item
+    private final EnchantmentSet peak;
+
+    // Upper-cased type of the held item, empty if nothing is held
+    private final String heldItemType;
+
+    // Categories of the held item, see EnchantmentType.categoriesOf
+    private final int heldCategories;
+
+    private Loadout(EnchantmentSet held, EnchantmentSet armor, byte[] armorPieces, EnchantmentSet[] armorSets,
+                    EnchantmentSet combined, EnchantmentSet peak, String heldItemType, int heldCategories) {
+        this.held = held;
+        this.armor = armor;
+        this.armorPieces = armorPieces;
+        this.armorSets = armorSets;
+        this.combined = combined;
+        this.peak = peak;
+        this.heldItemType = heldItemType;
+        this.heldCategories = heldCategories;
+    }
+
+    /**
+     * Number of armor pieces carrying an enchantment
+     */
+    public int getArmorPieceCount(int ordinal) {
+        int index = armor.indexOf(ordinal);
+        return index >= 0 ? armorPieces[index] : 0;
+    }
+
+    /**
+     * Number of enchanted armor pieces
+     */
+    public int getArmorSetCount() {
+        return armorSets.length;
+    }
+
+    /**
+     * Enchantments of one enchanted armor piece
+     *
+     * @param index 0 until {@link #getArmorSetCount()}
+     */
+    public EnchantmentSet getArmorSet(int index) {
+        return armorSets[index];
+    }
+
+    /**
+     * Capture the current loadout of a player
+     * Must be called from the player's world thread.
+     */
+    public static Loadout capture(Player player) {
+        return of(ItemUtil.getHeldItem(player), ItemUtil.getArmorPieces(player));
+    }
+
+    /**
+     * Build a loadout from a held item and armor pieces
+     */
+    public static Loadout of(ItemStack heldItem, ItemStack[] armorItems) {
+        EnchantmentSet held = ItemUtil.getItemEnchantments(heldItem);
+
+        // Sum armor levels and count pieces, keeping each enchanted piece's own set
+        Accumulator armorSum = new Accumulator();
+        EnchantmentSet[] pieceSets = new EnchantmentSet[armorItems.length];
+        int enchantedPieces = 0;
+        for (ItemStack piece : armorItems) {
+            EnchantmentSet enchantments = ItemUtil.getItemEnchantments(piece);
+            if (!enchantments.isEmpty()) {
+                pieceSets[enchantedPieces++] = enchantments;
+            }
+            for (int i = 0; i < enchantments.size(); i++) {
+                armorSum.add(enchantments.ordinalAt(i), enchantments.levelAt(i));
+            }
+        }
+
+        EnchantmentSet armor = armorSum.toSet();
+        String heldType = typeOf(heldItem);
+        if (held.isEmpty() && armor.isEmpty()) {
+            return heldType.isEmpty() ? EMPTY
+                    : new Loadout(held, armor, new byte[0], NO_PIECES, EnchantmentSet.EMPTY, EnchantmentSet.EMPTY, heldType,
+                            EnchantmentType.categoriesOf(heldType));
+        }
+
+        // Piece counts, reordered to match the sorted armor set
+        byte[] armorPieces = new byte[armor.size()];
+        for (int i = 0; i < armorSum.size; i++) {
+            armorPieces[armor.indexOf(armorSum.ordinals[i])] = (byte) armorSum.pieces[i];
+        }
+
+        // Held item on top of armor
+        for (int i = 0; i < held.size(); i++) {
+            armorSum.add(held.ordinalAt(i), held.levelAt(i));
+        }
+
+        EnchantmentSet[] armorSets = enchantedPieces == 0 ? NO_PIECES : Arrays.copyOf(pieceSets, enchantedPieces);
+        return new Loadout(held, armor, armorPieces, armorSets, armorSum.toSet(), armorSum.toPeakSet(), heldType,
+                EnchantmentType.categoriesOf(heldType));
+    }
+
+    private static String typeOf(ItemStack item) {
+        return ItemUtil.isNullOrEmpty(item) ? "" : item.getType().toString().toUpperCase();
+    }
+
+    /**
+     * Sums levels and keeps the highest single level per ordinal; entry counts are tiny so a linear scan is fine
+     */
+    private static final class Accumulator {
+        private final short[] ordinals = new short[64];
+        private final int[] levels = new int[64];
+        private final byte[] peaks = new byte[64];
+        private final int[] pieces = new int[64];
+        private int size;
+
+        private void add(int ordinal, int level) {
+            for (int i = 0; i < size; i++) {
+                if (ordinals[i] == ordinal) {
+                    levels[i] += level;
+                    peaks[i] = (byte) Math.max(peaks[i], level);
+                    pieces[i]++;
+                    return;
+                }
+            }
+            if (size == ordinals.length) return;
+
+            ordinals[size] = (short) ordinal;
+            levels[size] = level;
+            peaks[size] = (byte) level;
+            pieces[size] = 1;
+            size++;
+        }
+
+        private EnchantmentSet toPeakSet() {
+            return EnchantmentSet.of(ordinals, peaks, size);
+        }
+
+        private EnchantmentSet toSet() {
+            byte[] clamped = new byte[size];
+            for (int i = 0; i < size; i++) {
+                clamped[i] = (byte) Math.min(levels[i], Byte.MAX_VALUE);
+            }
+            return EnchantmentSet.of(ordinals, clamped, size);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.hyfactions.enchanter.enchantment;
+
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-resolved handle for a numeric enchantment level property
+ *
+ * Each key owns a slot in the primitive tables every {@link CustomEnchantment.EnchantmentLevel}
+ * compiles its properties into, so reading a value on the hot path is one
+ * array load - no map lookup, no boxing.
+ *
+ * <pre>
+ * double healPercent = level.get(PropertyKey.HEAL_PERCENT, 0);
+ * </pre>
+ */
+@Getter
+public final class PropertyKey<T extends Number> {
+
+    // Name -> key, for compiling config maps
+    private static final Map<String, PropertyKey<?>> KEYS = new ConcurrentHashMap<>();
+
+    private static int nextDoubleSlot;
+    private static int nextIntSlot;
+
+    // Combat
+    public static final PropertyKey<Double> HEAL_PERCENT = doubleKey("heal-percent");
+    public static final PropertyKey<Double> CRIT_CHANCE = doubleKey("crit-chance");
+    public static final PropertyKey<Double> CRIT_MULTIPLIER = doubleKey("crit-multiplier");
+    public static final PropertyKey<Double> DAMAGE_BONUS = doubleKey("damage-bonus");
+    public static final PropertyKey<Integer> POISON_DURATION = intKey("poison-duration");
+    public static final PropertyKey<Integer> POISON_AMPLIFIER = intKey("poison-amplifier");
+    public static final PropertyKey<Integer> FIRE_DURATION = intKey("fire-duration");
+
+    // Defense
+    public static final PropertyKey<Double> DAMAGE_REDUCTION = doubleKey("damage-reduction");
+    public static final PropertyKey<Double> REDUCTION_PERCENT = doubleKey("reduction-percent");
+    public static final PropertyKey<Double> REFLECT_PERCENT = doubleKey("reflect-percent");
+    public static final PropertyKey<Double> REGEN_RATE = doubleKey("regen-rate");
+
+    // Utility
+    public static final PropertyKey<Double> SPEED_BOOST = doubleKey("speed-boost");
+    public static final PropertyKey<Double> SPEED_MULTIPLIER = doubleKey("speed-multiplier");
+    public static final PropertyKey<Double> EXP_MULTIPLIER = doubleKey("exp-multiplier");
+    public static final PropertyKey<Integer> BONUS_DROPS = intKey("bonus-drops");
+
+    // Faction
+    public static final PropertyKey<Double> DEFENSE_BONUS = doubleKey("defense-bonus");
+    public static final PropertyKey<Double> RAID_DAMAGE_BONUS = doubleKey("raid-damage-bonus");
+    public static final PropertyKey<Double> RESOURCE_MULTIPLIER = doubleKey("resource-multiplier");
+    public static final PropertyKey<Double> ALLY_DAMAGE_REDUCTION = doubleKey("ally-damage-reduction");
+
+    private final String name;
+    private final Class<T> type;
+    private final int slot;
+
+    private PropertyKey(String name, Class<T> type, int slot) {
+        this.name = name;
+        this.type = type;
+        this.slot = slot;
+    }
+
+    /**
+     * Get or create a double-valued key
+     */
+    public static synchronized PropertyKey<Double> doubleKey(String name) {
+        PropertyKey<?> existing = KEYS.get(name);
+        if (existing != null) {
+            return cast(existing, Double.class);
+        }
+        PropertyKey<Double> key = new PropertyKey<>(name, Double.class, nextDoubleSlot++);
+        KEYS.put(name, key);
+        return key;
+    }
+
+    /**
+     * Get or create an integer-valued key
+     */
+    public static synchronized PropertyKey<Integer> intKey(String name) {
+        PropertyKey<?> existing = KEYS.get(name);
+        if (existing != null) {
+            return cast(existing, Integer.class);
+        }
+        PropertyKey<Integer> key = new PropertyKey<>(name, Integer.class, nextIntSlot++);
+        KEYS.put(name, key);
+        return key;
+    }
+
+    /**
+     * Get a key by property name
+     *
+     * @return The key, or null if no key has that name
+     */
+    public static PropertyKey<?> byName(String name) {
+        return KEYS.get(name);
+    }
+
+    /**
+     * Number of double slots handed out so far
+     */
+    static synchronized int doubleSlots() {
+        return nextDoubleSlot;
+    }
+
+    /**
+     * Number of integer slots handed out so far
+     */
+    static synchronized int intSlots() {
+        return nextIntSlot;
+    }
+
+    boolean isInteger() {
+        return type == Integer.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V extends Number> PropertyKey<V> cast(PropertyKey<?> key, Class<V> type) {
+        if (key.type != type) {
+            throw new IllegalArgumentException("Property " + key.name + " is a " + key.type.getSimpleName()
+                    + " property, not " + type.getSimpleName());
+        }
+        return (PropertyKey<V>) key;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,257 @@
+package com.hyfactions.enchanter.enchantment;
+
+import com.hyfactions.enchanter.enchantment.trigger.AttackTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.BlockBreakTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.DefendTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.EquipTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.KillTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.TickTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.TriggerTable;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Immutable view of the enchantment registry
+ *
+ * Holds the definitions, handlers and every index derived from them. A new
+ * snapshot is built completely before it is published, so readers on world
+ * threads always see either the old registry or the new one, never a
+ * half-built mix, and never take a lock.
+ */
+public final class RegistrySnapshot {
+
+    public static final RegistrySnapshot EMPTY = new RegistrySnapshot(List.of(), Map.of(), Map.of(), Map.of(),
+            new CustomEnchantment[0], new EnchantmentHandler[0]);
+
+    // Normalized ID -> definition / handler, in registration order
+    @Getter
+    private final Map<String, CustomEnchantment> enchantments;
+    @Getter
+    private final Map<String, EnchantmentHandler> handlers;
+
+    // Handlers in registration order, for rebuilding with one more entry
+    private final List<EnchantmentHandler> registered;
+
+    // Normalized ID -> ordinal, registered enchantments only
+    private final Map<String, Integer> ordinalsById;
+
+    // Definitions and handlers indexed by ordinal
+    private final CustomEnchantment[] enchantmentsByOrdinal;
+    private final EnchantmentHandler[] handlersByOrdinal;
+
+    // Conflict and synergy bitsets indexed by ordinal, symmetric
+    private final long[][] conflictBits;
+    private final long[][] synergyBits;
+
+    // Item type -> applicable enchantments
+    @Getter
+    private final ApplicabilityIndex applicability;
+
+    // Per-trigger dispatch tables, priority-sorted
+    @Getter
+    private final TriggerTable<AttackTrigger> attackTriggers;
+    @Getter
+    private final TriggerTable<DefendTrigger> defendTriggers;
+    @Getter
+    private final TriggerTable<BlockBreakTrigger> blockBreakTriggers;
+    @Getter
+    private final TriggerTable<KillTrigger> killTriggers;
+    @Getter
+    private final TriggerTable<TickTrigger> tickTriggers;
+    @Getter
+    private final TriggerTable<EquipTrigger> equipTriggers;
+
+    private final Map<EnchantmentTier, List<CustomEnchantment>> enchantmentsByTier;
+    private final Map<EnchantmentCategory, List<CustomEnchantment>> enchantmentsByCategory;
+
+    private RegistrySnapshot(List<EnchantmentHandler> registered, Map<String, CustomEnchantment> enchantments,
+                             Map<String, EnchantmentHandler> handlers, Map<String, Integer> ordinalsById,
+                             CustomEnchantment[] enchantmentsByOrdinal, EnchantmentHandler[] handlersByOrdinal) {
+        this.registered = registered;
+        this.ordinalsById = ordinalsById;
+        this.enchantments = enchantments;
+        this.handlers = handlers;
+        this.enchantmentsByOrdinal = enchantmentsByOrdinal;
+        this.handlersByOrdinal = handlersByOrdinal;
+
+        // Tier and category lists
+        Map<EnchantmentTier, List<CustomEnchantment>> byTier = new EnumMap<>(EnchantmentTier.class);
+        Map<EnchantmentCategory, List<CustomEnchantment>> byCategory = new EnumMap<>(EnchantmentCategory.class);
+        for (CustomEnchantment enchantment : enchantments.values()) {
+            byTier.computeIfAbsent(enchantment.getTier(), tier -> new ArrayList<>()).add(enchantment);
+            byCategory.computeIfAbsent(enchantment.getCategory(), category -> new ArrayList<>()).add(enchantment);
+        }
+        byTier.replaceAll((tier, list) -> Collections.unmodifiableList(list));
+        byCategory.replaceAll((category, list) -> Collections.unmodifiableList(list));
+        this.enchantmentsByTier = Collections.unmodifiableMap(byTier);
+        this.enchantmentsByCategory = Collections.unmodifiableMap(byCategory);
+
+        // Conflict and synergy matrices
+        this.conflictBits = buildRelationBits(CustomEnchantment::getConflicts);
+        this.synergyBits = buildRelationBits(CustomEnchantment::getSynergies);
+
+        // Item types are indexed lazily against these definitions
+        this.applicability = new ApplicabilityIndex(enchantmentsByOrdinal);
+
+        // Dispatch tables
+        this.attackTriggers = TriggerTable.build(handlersByOrdinal, AttackTrigger.class);
+        this.defendTriggers = TriggerTable.build(handlersByOrdinal, DefendTrigger.class);
+        this.blockBreakTriggers = TriggerTable.build(handlersByOrdinal, BlockBreakTrigger.class);
+        this.killTriggers = TriggerTable.build(handlersByOrdinal, KillTrigger.class);
+        this.tickTriggers = TriggerTable.build(handlersByOrdinal, TickTrigger.class);
+        this.equipTriggers = TriggerTable.build(handlersByOrdinal, EquipTrigger.class);
+    }
+
+    /**
+     * Build a snapshot from handlers in registration order
+     * Duplicate IDs after the first are skipped and reported to the callback.
+     *
+     * @param handlers    Handlers to register
+     * @param ordinals    Ordinal table; new IDs are assigned ordinals
+     * @param onDuplicate Called with each skipped ID, may be null
+     */
+    public static RegistrySnapshot build(List<EnchantmentHandler> handlers, EnchantmentOrdinals ordinals,
+                                         Consumer<String> onDuplicate) {
+        Map<String, CustomEnchantment> enchantments = new LinkedHashMap<>();
+        Map<String, EnchantmentHandler> handlerMap = new LinkedHashMap<>();
+        Map<String, Integer> ordinalsById = new HashMap<>();
+        List<EnchantmentHandler> registered = new ArrayList<>(handlers.size());
+
+        for (EnchantmentHandler handler : handlers) {
+            String id = EnchantmentManager.normalizeId(handler.getEnchantment().getId());
+            if (enchantments.containsKey(id)) {
+                if (onDuplicate != null) onDuplicate.accept(id);
+                continue;
+            }
+
+            enchantments.put(id, handler.getEnchantment());
+            handlerMap.put(id, handler);
+            ordinalsById.put(id, ordinals.ordinalFor(id));
+            registered.add(handler);
+        }
+
+        // Persisted ordinals are handed out sequentially, so the arrays stay dense
+        int size = registered.isEmpty() ? 0 : ordinals.size();
+        CustomEnchantment[] definitions = new CustomEnchantment[size];
+        EnchantmentHandler[] handlerArray = new EnchantmentHandler[size];
+        for (Map.Entry<String, Integer> entry : ordinalsById.entrySet()) {
+            definitions[entry.getValue()] = enchantments.get(entry.getKey());
+            handlerArray[entry.getValue()] = handlerMap.get(entry.getKey());
+        }
+
+        return new RegistrySnapshot(Collections.unmodifiableList(registered),
+                Collections.unmodifiableMap(enchantments), Collections.unmodifiableMap(handlerMap),
+                Collections.unmodifiableMap(ordinalsById), definitions, handlerArray);
+    }
+
+    /**
+     * Handlers in registration order
+     */
+    public List<EnchantmentHandler> getRegistered() {
+        return registered;
+    }
+
+    /**
+     * Get an enchantment by normalized ID
+     */
+    public CustomEnchantment getEnchantment(String id) {
+        return enchantments.get(id);
+    }
+
+    /**
+     * Get an enchantment by ordinal
+     */
+    public CustomEnchantment getEnchantment(int ordinal) {
+        return ordinal >= 0 && ordinal < enchantmentsByOrdinal.length ? enchantmentsByOrdinal[ordinal] : null;
+    }
+
+    /**
+     * Get the ordinal of a registered enchantment by normalized ID
+     *
+     * @return The ordinal, or -1 if not registered
+     */
+    public int getOrdinal(String id) {
+        Integer ordinal = ordinalsById.get(id);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Get a handler by normalized ID
+     */
+    public EnchantmentHandler getHandler(String id) {
+        return handlers.get(id);
+    }
+
+    /**
+     * Get a handler by ordinal
+     */
+    public EnchantmentHandler getHandler(int ordinal) {
+        return ordinal >= 0 && ordinal < handlersByOrdinal.length ? handlersByOrdinal[ordinal] : null;
+    }
+
+    /**
+     * Number of ordinal slots, registered or not
+     */
+    public int getOrdinalCapacity() {
+        return enchantmentsByOrdinal.length;
+    }
+
+    public List<CustomEnchantment> getEnchantmentsByTier(EnchantmentTier tier) {
+        return enchantmentsByTier.getOrDefault(tier, List.of());
+    }
+
+    public List<CustomEnchantment> getEnchantmentsByCategory(EnchantmentCategory category) {
+        return enchantmentsByCategory.getOrDefault(category, List.of());
+    }
+
+    /**
+     * Conflict bitset for an ordinal, or null if it conflicts with nothing
+     */
+    long[] conflictsOf(int ordinal) {
+        return ordinal >= 0 && ordinal < conflictBits.length ? conflictBits[ordinal] : null;
+    }
+
+    /**
+     * Synergy bitset for an ordinal, or null if it has no synergies
+     */
+    long[] synergiesOf(int ordinal) {
+        return ordinal >= 0 && ordinal < synergyBits.length ? synergyBits[ordinal] : null;
+    }
+
+    /**
+     * Compile a declared relation into per-ordinal bitsets
+     * The relation is made symmetric, so a lookup never has to check both sides.
+     * References to enchantments that are not registered are ignored.
+     */
+    private long[][] buildRelationBits(Function<CustomEnchantment, List<String>> relation) {
+        int words = Math.max(1, (enchantmentsByOrdinal.length + 63) >>> 6);
+        long[][] bits = new long[enchantmentsByOrdinal.length][];
+
+        for (int ordinal = 0; ordinal < enchantmentsByOrdinal.length; ordinal++) {
+            CustomEnchantment enchantment = enchantmentsByOrdinal[ordinal];
+            List<String> related = enchantment != null ? relation.apply(enchantment) : null;
+            if (related == null) continue;
+
+            for (String otherId : related) {
+                int other = getOrdinal(EnchantmentManager.normalizeId(otherId));
+                if (other < 0 || other == ordinal) continue;
+
+                if (bits[ordinal] == null) bits[ordinal] = new long[words];
+                if (bits[other] == null) bits[other] = new long[words];
+                bits[ordinal][other >>> 6] |= 1L << other;
+                bits[other][ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+        return bits;
+    }
+}
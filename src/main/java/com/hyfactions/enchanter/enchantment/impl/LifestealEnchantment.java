@@ -1,60 +1,19 @@
 package com.hyfactions.enchanter.enchantment.impl;
 
 import com.hyfactions.enchanter.enchantment.*;
-
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import com.hyfactions.enchanter.enchantment.trigger.AttackTrigger;
 
 /**
  * Lifesteal enchantment implementation
  * Heals the player for a percentage of damage dealt
  */
-public class LifestealEnchantment implements EnchantmentHandler {
+public class LifestealEnchantment implements AttackTrigger {
 
     private final CustomEnchantment enchantment;
 
-    public LifestealEnchantment() {
-        // Build level configurations
-        Map<Integer, CustomEnchantment.EnchantmentLevel> levels = new HashMap<>();
-
-        levels.put(1, CustomEnchantment.EnchantmentLevel.builder()
-                .level(1)
-                .cost(5000)
-                .properties(Map.of("heal-percent", 10))
-                .build());
-
-        levels.put(2, CustomEnchantment.EnchantmentLevel.builder()
-                .level(2)
-                .cost(12000)
-                .properties(Map.of("heal-percent", 20))
-                .build());
-
-        levels.put(3, CustomEnchantment.EnchantmentLevel.builder()
-                .level(3)
-                .cost(25000)
-                .properties(Map.of("heal-percent", 30))
-                .build());
-
-        // Build enchantment
-        this.enchantment = CustomEnchantment.builder()
-                .id("LIFESTEAL")
-                .displayName("&cLifesteal")
-                .description(Arrays.asList(
-                        "&7Heal for a percentage of damage dealt",
-                        "&7to enemies"
-                ))
-                .tier(EnchantmentTier.RARE)
-                .category(EnchantmentCategory.COMBAT)
-                .type(EnchantmentType.WEAPON)
-                .maxLevel(3)
-                .levels(levels)
-                .applicableItem("SWORD")
-                .applicableItem("AXE")
-                .conflict("POISON_STRIKE")
-                .particle("HEART")
-                .sound("ENTITY_PLAYER_LEVELUP")
-                .build();
+    public LifestealEnchantment(CustomEnchantment enchantment) {
+        // Definition comes from enchantments.yml
+        this.enchantment = enchantment;
     }
 
     @Override
@@ -68,6 +27,15 @@ public class LifestealEnchantment implements EnchantmentHandler {
         return true;
     }
 
+    @Override
+    public void onAttack(EnchantmentContext context) {
+        // Heal from the damage after earlier handlers have adjusted it
+        double damage = context.getDamage();
+        if (damage > 0) {
+            handleDamage(context, damage);
+        }
+    }
+
     /**
      * This would be called from CombatListener when damage is dealt
      * Implementation depends on Hytale API event structure
@@ -77,22 +45,24 @@ public class LifestealEnchantment implements EnchantmentHandler {
         CustomEnchantment.EnchantmentLevel level = enchantment.getLevel(context.getLevel());
         if (level == null) return;
 
-        int healPercent = level.getIntProperty("heal-percent", 0);
+        double healPercent = level.get(PropertyKey.HEAL_PERCENT, 0);
 
         // Calculate heal amount
         double healAmount = damage * (healPercent / 100.0);
 
         // Heal the player
         // In actual implementation with Hytale API:
-        // Player player = context.getPlayer(Player.class);
+        // Player player = context.getPlayer();
         // if (player != null) {
         //     double newHealth = Math.min(player.getMaxHealth(), player.getHealth() + healAmount);
         //     player.setHealth(newHealth);
         //
-        //     // Play particle effect
-        //     player.getWorld().spawnParticle(Particle.HEART, player.getLocation(), 5);
+        //     // Cosmetic - may be pushed to a later tick
+        //     Position location = player.getPosition();
+        //     context.defer(() -> player.getWorld().spawnParticle(Particle.HEART, location, 5));
         // }
 
-        context.setData("heal-amount", healAmount);
+        context.setScratch(EnchantmentContext.SLOT_HEAL_AMOUNT,
+                context.getScratch(EnchantmentContext.SLOT_HEAL_AMOUNT) + healAmount);
     }
 }
@@ -0,0 +1,17 @@
+package com.hyfactions.enchanter.enchantment.trigger;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentContext;
+import com.hyfactions.enchanter.enchantment.EnchantmentHandler;
+
+/**
+ * Handler that reacts when its holder damages an entity
+ */
+public interface AttackTrigger extends EnchantmentHandler {
+
+    /**
+     * Called when the player hits a target with the enchanted item
+     *
+     * @param context The attack context
+     */
+    void onAttack(EnchantmentContext context);
+}
@@ -0,0 +1,17 @@
+package com.hyfactions.enchanter.enchantment.trigger;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentContext;
+import com.hyfactions.enchanter.enchantment.EnchantmentHandler;
+
+/**
+ * Handler that reacts when its holder breaks a block
+ */
+public interface BlockBreakTrigger extends EnchantmentHandler {
+
+    /**
+     * Called when the player breaks a block with the enchanted tool
+     *
+     * @param context The block break context
+     */
+    void onBlockBreak(EnchantmentContext context);
+}
@@ -0,0 +1,17 @@
+package com.hyfactions.enchanter.enchantment.trigger;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentContext;
+import com.hyfactions.enchanter.enchantment.EnchantmentHandler;
+
+/**
+ * Handler that reacts when its wearer is damaged
+ */
+public interface DefendTrigger extends EnchantmentHandler {
+
+    /**
+     * Called when the player is hit while wearing the enchanted armor
+     *
+     * @param context The defense context
+     */
+    void onDefend(EnchantmentContext context);
+}
@@ -0,0 +1,24 @@
+package com.hyfactions.enchanter.enchantment.trigger;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentContext;
+import com.hyfactions.enchanter.enchantment.EnchantmentHandler;
+
+/**
+ * Handler with a passive effect that lasts while the item is equipped
+ */
+public interface EquipTrigger extends EnchantmentHandler {
+
+    /**
+     * Called when the enchanted item is equipped
+     *
+     * @param context The equip context
+     */
+    void onEquip(EnchantmentContext context);
+
+    /**
+     * Called when the enchanted item is unequipped
+     *
+     * @param context The unequip context
+     */
+    void onUnequip(EnchantmentContext context);
+}
@@ -0,0 +1,17 @@
+package com.hyfactions.enchanter.enchantment.trigger;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentContext;
+import com.hyfactions.enchanter.enchantment.EnchantmentHandler;
+
+/**
+ * Handler that reacts when its holder kills an entity
+ */
+public interface KillTrigger extends EnchantmentHandler {
+
+    /**
+     * Called when the player kills a target with the enchanted item
+     *
+     * @param context The kill context
+     */
+    void onKill(EnchantmentContext context);
+}
@@ -0,0 +1,17 @@
+package com.hyfactions.enchanter.enchantment.trigger;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentContext;
+import com.hyfactions.enchanter.enchantment.EnchantmentHandler;
+
+/**
+ * Handler with a periodic passive effect
+ */
+public interface TickTrigger extends EnchantmentHandler {
+
+    /**
+     * Called periodically while the enchantment is equipped
+     *
+     * @param context The tick context
+     */
+    void onTick(EnchantmentContext context);
+}
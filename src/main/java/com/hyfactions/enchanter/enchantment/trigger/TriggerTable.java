@@ -0,0 +1,100 @@
+package com.hyfactions.enchanter.enchantment.trigger;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentHandler;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Handlers for one trigger, sorted by priority
+ *
+ * Only handlers that implement the trigger are included, so dispatch never
+ * visits enchantments that do not react to the event. Iterate with
+ * {@link #size()}, {@link #ordinalAt(int)} and {@link #handlerAt(int)}:
+ *
+ * <pre>
+ * TriggerTable&lt;AttackTrigger&gt; table = snapshot.getAttackTriggers();
+ * if (!table.matches(enchantments)) return;
+ * for (int i = 0; i &lt; table.size(); i++) {
+ *     int level = enchantments.levelOf(table.ordinalAt(i));
+ *     if (level &gt; 0) table.handlerAt(i).onAttack(context);
+ * }
+ * </pre>
+ */
+public final class TriggerTable<T extends EnchantmentHandler> {
+
+    private final int[] ordinals;
+    private final T[] handlers;
+
+    // Ordinals below 64 in this table, comparable with EnchantmentSet.mask()
+    private final long mask;
+
+    // True if some ordinal is 64 or above, so the mask alone cannot rule a set out
+    private final boolean wide;
+
+    private TriggerTable(int[] ordinals, T[] handlers) {
+        this.ordinals = ordinals;
+        this.handlers = handlers;
+
+        long bits = 0;
+        boolean hasWide = false;
+        for (int ordinal : ordinals) {
+            if (ordinal < 64) {
+                bits |= 1L << ordinal;
+            } else {
+                hasWide = true;
+            }
+        }
+        this.mask = bits;
+        this.wide = hasWide;
+    }
+
+    /**
+     * Build a table from ordinal-indexed handlers
+     * Higher priority first; ties keep ordinal order.
+     *
+     * @param handlersByOrdinal Handlers indexed by ordinal, null for unused slots
+     * @param trigger           Trigger interface to select
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends EnchantmentHandler> TriggerTable<T> build(EnchantmentHandler[] handlersByOrdinal,
+                                                                       Class<T> trigger) {
+        List<Integer> selected = new ArrayList<>();
+        for (int ordinal = 0; ordinal < handlersByOrdinal.length; ordinal++) {
+            if (trigger.isInstance(handlersByOrdinal[ordinal])) {
+                selected.add(ordinal);
+            }
+        }
+        selected.sort(Comparator.comparingInt((Integer ordinal) -> -handlersByOrdinal[ordinal].getPriority()));
+
+        int[] ordinals = new int[selected.size()];
+        T[] handlers = (T[]) Array.newInstance(trigger, selected.size());
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = selected.get(i);
+            handlers[i] = trigger.cast(handlersByOrdinal[ordinals[i]]);
+        }
+        return new TriggerTable<>(ordinals, handlers);
+    }
+
+    /**
+     * Check if any enchantment in a set reacts to this trigger
+     */
+    public boolean matches(EnchantmentSet enchantments) {
+        return (mask & enchantments.mask()) != 0 || (wide && !enchantments.isCompact());
+    }
+
+    public int size() {
+        return ordinals.length;
+    }
+
+    public int ordinalAt(int index) {
+        return ordinals[index];
+    }
+
+    public T handlerAt(int index) {
+        return handlers[index];
+    }
+}
@@ -55,43 +55,4 @@ public class FactionManager {
         // Implementation depends on faction plugin API
         return false;
     }
-
-    /**
-     * Apply territory bonus to damage
-     */
-    public double applyTerritoryBonus(UUID playerUuid, double baseDamage) {
-        if (!isInFactionTerritory(playerUuid)) {
-            return baseDamage;
-        }
-
-        double multiplier = plugin.getConfigManager().getTerritoryDamageMultiplier();
-        return baseDamage * multiplier;
-    }
-
-    /**
-     * Apply territory bonus to defense
-     */
-    public double applyDefenseBonus(UUID playerUuid, double baseDamage) {
-        if (!isInFactionTerritory(playerUuid)) {
-            return baseDamage;
-        }
-
-        double multiplier = plugin.getConfigManager().getTerritoryDefenseMultiplier();
-        return baseDamage / multiplier;
-    }
-
-    /**
-     * Apply raid bonuses
-     */
-    public double applyRaidBonus(UUID attackerUuid, double baseDamage, boolean isAttacker) {
-        if (!isInRaid(attackerUuid)) {
-            return baseDamage;
-        }
-
-        double multiplier = isAttacker ?
-                plugin.getConfigManager().getRaidAttackerDamage() :
-                plugin.getConfigManager().getRaidDefenderDefense();
-
-        return isAttacker ? baseDamage * multiplier : baseDamage / multiplier;
-    }
 }
@@ -0,0 +1,163 @@
+package com.hyfactions.enchanter.harvest;
+
+import com.hypixel.hytale.math.Position;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.world.World;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drops and experience from one player's block breaks within a tick
+ *
+ * Each break adds its drops here instead of spawning them; identical
+ * drops are merged into stacks and experience is summed, then everything
+ * is spawned once by {@link #flush()}. Reused tick after tick. Only
+ * touched from the player's world thread.
+ */
+public final class HarvestBatch {
+
+    private static final int MAX_STACK_SIZE = 64;
+
+    // True between the first break of a tick and the flush
+    @Getter
+    private boolean open;
+
+    private Player player;
+    private World world;
+    private Position position;
+
+    // Tool modifiers, captured at the first break of the tick
+    private boolean smelt;
+    private int fortuneBonus;
+    private double expMultiplier;
+    private double resourceMultiplier;
+
+    // Merged drops, parallel arrays
+    private String[] types = new String[8];
+    private int[] amounts = new int[8];
+    private int size;
+
+    private int experience;
+
+    @Getter
+    private int breaks;
+
+    /**
+     * Start collecting for a tick
+     */
+    void open(Player player, World world, Position position, boolean smelt, int fortuneBonus,
+              double expMultiplier, double resourceMultiplier) {
+        this.open = true;
+        this.player = player;
+        this.world = world;
+        this.position = position;
+        this.smelt = smelt;
+        this.fortuneBonus = fortuneBonus;
+        this.expMultiplier = expMultiplier;
+        this.resourceMultiplier = resourceMultiplier;
+    }
+
+    /**
+     * Add the drop of one broken block
+     * Smelting and fortune are applied here, per block.
+     *
+     * @param dropType Upper-cased item type
+     * @param amount   Dropped amount before enchantments
+     */
+    public void addDrop(String dropType, int amount) {
+        String type = smelt ? HarvestTables.smelt(dropType) : dropType;
+
+        if (fortuneBonus > 0 && HarvestTables.isFortuneDrop(dropType)) {
+            int[] outcomes = HarvestTables.fortuneOutcomes(fortuneBonus);
+            amount *= outcomes[ThreadLocalRandom.current().nextInt(outcomes.length)];
+        }
+
+        merge(type, amount);
+    }
+
+    /**
+     * Add the experience of one broken block
+     */
+    public void addExperience(int amount) {
+        experience += amount;
+    }
+
+    /**
+     * Count a broken block
+     */
+    public void addBreak() {
+        breaks++;
+    }
+
+    private void merge(String type, int amount) {
+        // Few distinct drops per tick, so a linear scan beats hashing
+        for (int i = 0; i < size; i++) {
+            if (types[i].equals(type)) {
+                amounts[i] += amount;
+                return;
+            }
+        }
+
+        if (size == types.length) {
+            types = Arrays.copyOf(types, size * 2);
+            amounts = Arrays.copyOf(amounts, size * 2);
+        }
+        types[size] = type;
+        amounts[size] = amount;
+        size++;
+    }
+
+    /**
+     * Spawn the merged drops and experience, then reset for the next tick
+     * Must run on the player's world thread.
+     */
+    void flush() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < size; i++) {
+            int total = scale(amounts[i], resourceMultiplier, random);
+
+            while (total > 0) {
+                int stack = Math.min(total, MAX_STACK_SIZE);
+                total -= stack;
+
+                // Note: This will use Hytale's actual item drop API
+                // world.dropItem(position, new ItemStack(types[i], stack));
+            }
+        }
+
+        int xp = scale(experience, expMultiplier, random);
+        if (xp > 0) {
+            // player.giveExperience(xp);
+        }
+
+        reset();
+    }
+
+    /**
+     * Scale an amount, keeping the fractional part as a chance of one more
+     */
+    private static int scale(int amount, double multiplier, ThreadLocalRandom random) {
+        if (multiplier == 1) return amount;
+
+        double scaled = amount * multiplier;
+        int whole = (int) scaled;
+        return random.nextDouble() < scaled - whole ? whole + 1 : whole;
+    }
+
+    private void reset() {
+        for (int i = 0; i < size; i++) {
+            types[i] = null;
+        }
+        size = 0;
+        experience = 0;
+        breaks = 0;
+        player = null;
+        world = null;
+        position = null;
+        open = false;
+    }
+}
@@ -0,0 +1,89 @@
+package com.hyfactions.enchanter.harvest;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.enchantment.CustomEnchantment;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+import com.hyfactions.enchanter.enchantment.PropertyKey;
+import com.hyfactions.enchanter.enchantment.RegistrySnapshot;
+import com.hyfactions.enchanter.session.PlayerSession;
+import com.hyfactions.enchanter.util.PlayerUtil;
+
+import com.hypixel.hytale.math.Position;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.world.World;
+
+/**
+ * Coalesces block-break drops per player per tick
+ *
+ * Auto-Smelt, Fortune, Experience Boost and Resource Blessing are applied
+ * to a {@link HarvestBatch} rather than spawning drops per block, so a
+ * burst of breaks in one tick spawns each item type once.
+ */
+public class HarvestManager {
+
+    private final HyFactionsEnchanter plugin;
+
+    public HarvestManager(HyFactionsEnchanter plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Get the batch collecting a player's breaks for the current tick
+     * Opens it and schedules its flush on the first break of the tick.
+     * Must be called from the player's world thread.
+     *
+     * @param position Where the merged drops spawn
+     */
+    public HarvestBatch getBatch(Player player, Position position) {
+        PlayerSession session = plugin.getSessionManager().getOrCreateSession(PlayerUtil.getPlayerUUID(player));
+        HarvestBatch batch = session.getHarvestBatch();
+        if (batch.isOpen()) {
+            return batch;
+        }
+
+        openBatch(batch, session, player, position);
+
+        // Flush once the tick's breaks are in
+        World world = player.getWorld();
+        plugin.getTaskRegistry().delayed(() -> world.execute(batch::flush), 1);
+        return batch;
+    }
+
+    /**
+     * Capture the tool's harvest modifiers for the batch
+     */
+    private void openBatch(HarvestBatch batch, PlayerSession session, Player player, Position position) {
+        RegistrySnapshot registry = plugin.getEnchantmentManager().getSnapshot();
+        EnchantmentSet tool = session.getLoadout().getHeld();
+
+        boolean smelt = tool.contains(registry.getOrdinal("AUTO_SMELT"));
+        boolean silkTouch = tool.contains(registry.getOrdinal("SILK_TOUCH_BOOST"));
+
+        int fortuneBonus = 0;
+        double expMultiplier = 1;
+        double resourceMultiplier = 1;
+        for (int i = 0; i < tool.size(); i++) {
+            CustomEnchantment enchantment = registry.getEnchantment(tool.ordinalAt(i));
+            CustomEnchantment.EnchantmentLevel level = enchantment != null
+                    ? enchantment.getLevel(tool.levelAt(i)) : null;
+            if (level == null) continue;
+
+            fortuneBonus += level.get(PropertyKey.BONUS_DROPS, 0);
+            expMultiplier *= level.get(PropertyKey.EXP_MULTIPLIER, 1);
+            resourceMultiplier *= level.get(PropertyKey.RESOURCE_MULTIPLIER, 1);
+        }
+
+        // Resource Blessing only works in faction land
+        if (!session.isInFactionTerritory()) {
+            resourceMultiplier = 1;
+        }
+
+        // Silk touch keeps blocks as they are
+        if (silkTouch) {
+            smelt = false;
+            fortuneBonus = 0;
+        }
+
+        batch.open(player, player.getWorld(), position, smelt, fortuneBonus, expMultiplier, resourceMultiplier);
+    }
+}
@@ -0,0 +1,80 @@
+package com.hyfactions.enchanter.harvest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Precomputed lookup tables for block drops
+ *
+ * Smelting results and fortune outcomes are built once, so a break costs
+ * a map lookup and an array index instead of per-block branching.
+ * Item types are upper-cased.
+ */
+public final class HarvestTables {
+
+    // Highest fortune bonus with its own table; higher bonuses use this one
+    public static final int MAX_FORTUNE_BONUS = 10;
+
+    // Drop type -> smelted type
+    private static final Map<String, String> SMELTING = new HashMap<>();
+
+    // Drop types that fortune multiplies
+    private static final Set<String> FORTUNE_DROPS = Set.of(
+            "COAL", "DIAMOND", "EMERALD", "LAPIS_LAZULI", "REDSTONE", "QUARTZ",
+            "RAW_IRON", "RAW_GOLD", "RAW_COPPER", "IRON_ORE", "GOLD_ORE", "COPPER_ORE");
+
+    // [bonus] -> equally likely drop multipliers
+    private static final int[][] FORTUNE_OUTCOMES = new int[MAX_FORTUNE_BONUS + 1][];
+
+    static {
+        SMELTING.put("IRON_ORE", "IRON_INGOT");
+        SMELTING.put("GOLD_ORE", "GOLD_INGOT");
+        SMELTING.put("COPPER_ORE", "COPPER_INGOT");
+        SMELTING.put("RAW_IRON", "IRON_INGOT");
+        SMELTING.put("RAW_GOLD", "GOLD_INGOT");
+        SMELTING.put("RAW_COPPER", "COPPER_INGOT");
+        SMELTING.put("COBBLESTONE", "STONE");
+        SMELTING.put("SAND", "GLASS");
+        SMELTING.put("CLAY_BALL", "BRICK");
+        SMELTING.put("LOG", "CHARCOAL");
+
+        // Bonus b: no extra drop with weight 2, each of 2..b+1 with weight 1
+        for (int bonus = 0; bonus <= MAX_FORTUNE_BONUS; bonus++) {
+            int[] outcomes = new int[bonus + 2];
+            outcomes[0] = 1;
+            outcomes[1] = 1;
+            for (int i = 2; i < outcomes.length; i++) {
+                outcomes[i] = i;
+            }
+            FORTUNE_OUTCOMES[bonus] = outcomes;
+        }
+    }
+
+    private HarvestTables() {
+    }
+
+    /**
+     * Get the smelted form of a drop
+     *
+     * @return The smelted type, or the drop type itself if it does not smelt
+     */
+    public static String smelt(String dropType) {
+        return SMELTING.getOrDefault(dropType, dropType);
+    }
+
+    /**
+     * Check if fortune applies to a drop
+     */
+    public static boolean isFortuneDrop(String dropType) {
+        return FORTUNE_DROPS.contains(dropType);
+    }
+
+    /**
+     * Get the possible drop multipliers for a fortune bonus
+     * Pick one with a uniform random index.
+     */
+    public static int[] fortuneOutcomes(int bonus) {
+        return FORTUNE_OUTCOMES[Math.max(0, Math.min(bonus, MAX_FORTUNE_BONUS))];
+    }
+}
@@ -1,15 +1,13 @@
 package com.hyfactions.enchanter.listener;
 
 import com.hyfactions.enchanter.HyFactionsEnchanter;
-import com.hyfactions.enchanter.ability.MagicalAbility;
+import com.hyfactions.enchanter.ability.InputKey;
 import com.hyfactions.enchanter.util.PlayerUtil;
 
 // Hytale Core API imports
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.EventRegistry;
 
-import java.util.UUID;
-
 /**
  * Handles ability activation and triggering
  */
@@ -43,30 +41,20 @@ public class AbilityListener {
         //
         // if (e.getAction() == Action.RIGHT_CLICK_AIR || e.getAction() == Action.RIGHT_CLICK_BLOCK) {
         //     // Try to activate active ability
-        //     tryActivateAbility(player, "right_click");
+        //     tryActivateAbility(player, InputKey.RIGHT_CLICK);
         // }
     }
 
     /**
      * Try to activate a player's ability
+     * The input goes through the combo recognizer; only abilities indexed under
+     * the resulting gesture and the held item are checked.
      */
-    private static void tryActivateAbility(Player player, String trigger) {
-        UUID playerUuid = PlayerUtil.getPlayerUUID(player);
+    private static void tryActivateAbility(Player player, InputKey key) {
         HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
 
-        // Get player's unlocked abilities
-        var unlockedAbilities = plugin.getDatabaseManager().getPlayerAbilities(playerUuid);
-
-        for (String abilityId : unlockedAbilities) {
-            MagicalAbility ability = plugin.getAbilityManager().getAbility(abilityId);
-            if (ability == null) continue;
-
-            // Check if ability matches trigger
-            // Check cooldown
-            // Execute ability effect
-            // Set cooldown
-
-            plugin.getLogger().debug("Activated ability: " + abilityId + " for " + PlayerUtil.getName(player));
+        if (plugin.getAbilityManager().handleInput(player, key)) {
+            plugin.getLogger().fine("Activated " + key + " ability for " + PlayerUtil.getName(player));
         }
     }
 
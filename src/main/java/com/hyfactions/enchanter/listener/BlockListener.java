@@ -1,8 +1,12 @@
 package com.hyfactions.enchanter.listener;
 
 import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.enchantment.CustomEnchantment;
 import com.hyfactions.enchanter.enchantment.EnchantmentContext;
-import com.hyfactions.enchanter.enchantment.EnchantmentHandler;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+import com.hyfactions.enchanter.enchantment.trigger.BlockBreakTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.TriggerTable;
+import com.hyfactions.enchanter.harvest.HarvestBatch;
 import com.hyfactions.enchanter.util.ItemUtil;
 import com.hyfactions.enchanter.util.PlayerUtil;
 
@@ -12,8 +16,6 @@ import com.hypixel.hytale.server.core.event.EventRegistry;
 import com.hypixel.hytale.server.core.item.ItemStack;
 import com.hypixel.hytale.server.core.world.World;
 
-import java.util.Map;
-
 /**
  * Handles block-related events for utility enchantments
  */
@@ -53,45 +55,70 @@ public class BlockListener {
         //     if (ItemUtil.isNullOrEmpty(tool)) return;
         //
         //     // Get enchantments on tool
-        //     Map<String, Integer> enchantments = ItemUtil.getItemEnchantments(tool);
+        //     EnchantmentSet enchantments = ItemUtil.getItemEnchantments(tool);
         //
-        //     // Process each enchantment
-        //     for (Map.Entry<String, Integer> entry : enchantments.entrySet()) {
-        //         processBlockBreakEnchantment(entry.getKey(), entry.getValue(),
-        //             player, block, world, e);
+        //     // Auto-Smelt, Fortune, Experience Boost and Resource Blessing: collect drops for the
+        //     // tick instead of spawning them per block
+        //     HarvestBatch batch = plugin.getHarvestManager().getBatch(player, block.getPosition());
+        //     for (ItemStack drop : e.getDrops()) {
+        //         batch.addDrop(drop.getType().toString().toUpperCase(), drop.getAmount());
         //     }
+        //     batch.addExperience(e.getExpToDrop());
+        //     batch.addBreak();
+        //     e.getDrops().clear();
+        //     e.setExpToDrop(0);
+        //
+        //     TriggerTable<BlockBreakTrigger> table = plugin.getEnchantmentManager().getSnapshot().getBlockBreakTriggers();
+        //     if (!table.matches(enchantments)) return;
+        //
+        //     processBlockBreakEnchantments(table, enchantments, player, block, world, e);
         // });
     }
 
     /**
      * Process block break enchantments
+     * Only handlers implementing BlockBreakTrigger are visited, highest priority first.
      */
-    private static void processBlockBreakEnchantment(String enchantId, int level,
-                                              Player player, Object block,
-                                              World world, Object event) {
+    private static void processBlockBreakEnchantments(TriggerTable<BlockBreakTrigger> table,
+                                                      EnchantmentSet enchantments,
+                                                      Player player, Object block,
+                                                      World world, Object event) {
         HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
-        EnchantmentHandler handler = plugin.getEnchantmentManager().getHandler(enchantId);
-        if (handler == null) return;
-
-        // Build context
-        EnchantmentContext context = EnchantmentContext.builder()
-                .player(player)
-                .world(world)
-                .enchantmentId(enchantId)
-                .level(level)
-                .event(event)
-                .data(Map.of("block", block))
-                .build();
-
-        // Check if should process
-        if (!handler.shouldProcess(context)) return;
-
-        // Trigger enchantment effect
-        handler.onBlockBreak(context);
-
-        // Track statistics
-        plugin.getDatabaseManager().incrementStatistic(enchantId,
-            com.hyfactions.enchanter.database.DatabaseManager.StatisticType.TRIGGERS);
+        long start = System.nanoTime();
+
+        // One recycled context for the whole break
+        EnchantmentContext context = EnchantmentContext.acquire();
+        try {
+            context.setPlayer(player);
+            context.setWorld(world);
+            context.setEvent(event);
+            context.setBlock(block);
+
+            for (int i = 0; i < table.size(); i++) {
+                int ordinal = table.ordinalAt(i);
+                int level = enchantments.levelOf(ordinal);
+                if (level == 0) continue;
+
+                BlockBreakTrigger handler = table.handlerAt(i);
+                CustomEnchantment enchantment = handler.getEnchantment();
+                context.forEnchantment(enchantment, ordinal, level);
+
+                // Check if should process
+                if (!handler.shouldProcess(context)) continue;
+
+                // Trigger enchantment effect
+                handler.onBlockBreak(context);
+
+                // Track statistics
+                plugin.getDatabaseManager().incrementStatistic(ordinal,
+                    com.hyfactions.enchanter.database.DatabaseManager.StatisticType.TRIGGERS);
+            }
+        } finally {
+            context.release();
+
+            // Critical work always runs, but counts against the world's budget
+            plugin.getTickBudgetManager().getBudget(world).charge(System.nanoTime() - start);
+        }
     }
 
     /**
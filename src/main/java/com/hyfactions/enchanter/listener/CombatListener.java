@@ -1,9 +1,17 @@
 package com.hyfactions.enchanter.listener;
 
 import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.combat.DamagePipeline;
+import com.hyfactions.enchanter.combat.DamageProfile;
 import com.hyfactions.enchanter.enchantment.CustomEnchantment;
 import com.hyfactions.enchanter.enchantment.EnchantmentContext;
-import com.hyfactions.enchanter.enchantment.EnchantmentHandler;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+import com.hyfactions.enchanter.enchantment.Loadout;
+import com.hyfactions.enchanter.enchantment.RegistrySnapshot;
+import com.hyfactions.enchanter.enchantment.trigger.AttackTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.DefendTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.KillTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.TriggerTable;
 import com.hyfactions.enchanter.util.ItemUtil;
 import com.hyfactions.enchanter.util.PlayerUtil;
 
@@ -11,11 +19,8 @@ import com.hyfactions.enchanter.util.PlayerUtil;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.entity.LivingEntity;
 import com.hypixel.hytale.server.core.event.EventRegistry;
-import com.hypixel.hytale.server.core.item.ItemStack;
 import com.hypixel.hytale.server.core.world.World;
 
-import java.util.Map;
-
 /**
  * Handles combat-related events for enchantments
  */
@@ -57,54 +62,74 @@ public class CombatListener {
         //
         // World world = attacker.getWorld();
         //
-        // // Must execute on world thread for inventory access
-        // world.execute(() -> {
-        //     // Get attacker's weapon
-        //     ItemStack weapon = ItemUtil.getHeldItem(attacker);
-        //     if (ItemUtil.isNullOrEmpty(weapon)) return;
-        //
-        //     // Get enchantments on weapon
-        //     Map<String, Integer> enchantments = ItemUtil.getItemEnchantments(weapon);
-        //
-        //     // Process each enchantment
-        //     for (Map.Entry<String, Integer> entry : enchantments.entrySet()) {
-        //         processAttackEnchantment(entry.getKey(), entry.getValue(),
-        //             attacker, target, world, e);
-        //     }
-        // });
+        // // Stat modifiers of both sides (Sharpness, crits, Iron Skin, synergies, faction bonuses) in one pass
+        // DamagePipeline pipeline = plugin.getDamagePipeline();
+        // DamageProfile attackerProfile = pipeline.getProfile(PlayerUtil.getPlayerUUID(attacker));
+        // DamageProfile defenderProfile = target instanceof Player defender
+        //     ? pipeline.getProfile(PlayerUtil.getPlayerUUID(defender)) : DamageProfile.NONE;
+        // double base = pipeline.apply(attackerProfile, defenderProfile, e.getDamage());
+        //
+        // // Equipped enchantments are precomputed - no inventory access or decoding per hit
+        // Loadout loadout = plugin.getSessionManager().getLoadout(PlayerUtil.getPlayerUUID(attacker));
+        // EnchantmentSet enchantments = loadout.getHeld();
+        //
+        // // Skip the handler pass entirely when nothing on the item reacts to attacks
+        // RegistrySnapshot snapshot = plugin.getEnchantmentManager().getSnapshot();
+        // double damage = snapshot.getAttackTriggers().matches(enchantments)
+        //     ? processAttackEnchantments(snapshot.getAttackTriggers(), enchantments, attacker, target, world, e, base)
+        //     : base;
+        //
+        // // The event fires on the world thread; set the result before it resolves
+        // e.setDamage(damage);
     }
 
     /**
      * Process attack-related enchantments
+     * Only handlers implementing AttackTrigger are visited, highest priority first.
+     *
+     * @return The damage after all handlers have adjusted it
      */
-    private static void processAttackEnchantment(String enchantId, int level,
-                                          Player attacker, LivingEntity target,
-                                          World world, Object event) {
+    private static double processAttackEnchantments(TriggerTable<AttackTrigger> table, EnchantmentSet enchantments,
+                                                    Player attacker, LivingEntity target,
+                                                    World world, Object event, double damage) {
         HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
-        EnchantmentHandler handler = plugin.getEnchantmentManager().getHandler(enchantId);
-        if (handler == null) return;
-
-        CustomEnchantment enchantment = handler.getEnchantment();
-
-        // Build context
-        EnchantmentContext context = EnchantmentContext.builder()
-                .player(attacker)
-                .world(world)
-                .enchantmentId(enchantId)
-                .level(level)
-                .event(event)
-                .data(Map.of("target", target))
-                .build();
-
-        // Check if should process
-        if (!handler.shouldProcess(context)) return;
-
-        // Trigger enchantment effect
-        handler.onAttack(context);
-
-        // Track statistics
-        plugin.getDatabaseManager().incrementStatistic(enchantId,
-            com.hyfactions.enchanter.database.DatabaseManager.StatisticType.TRIGGERS);
+        long start = System.nanoTime();
+
+        // One recycled context for the whole hit
+        EnchantmentContext context = EnchantmentContext.acquire();
+        try {
+            context.setPlayer(attacker);
+            context.setWorld(world);
+            context.setEvent(event);
+            context.setTarget(target);
+            context.initDamage(damage);
+
+            for (int i = 0; i < table.size(); i++) {
+                int ordinal = table.ordinalAt(i);
+                int level = enchantments.levelOf(ordinal);
+                if (level == 0) continue;
+
+                AttackTrigger handler = table.handlerAt(i);
+                CustomEnchantment enchantment = handler.getEnchantment();
+                context.forEnchantment(enchantment, ordinal, level);
+
+                // Check if should process
+                if (!handler.shouldProcess(context)) continue;
+
+                // Trigger enchantment effect
+                handler.onAttack(context);
+
+                // Track statistics
+                plugin.getDatabaseManager().incrementStatistic(ordinal,
+                    com.hyfactions.enchanter.database.DatabaseManager.StatisticType.TRIGGERS);
+            }
+            return context.getDamage();
+        } finally {
+            context.release();
+
+            // Critical work always runs, but counts against the world's budget
+            plugin.getTickBudgetManager().getBudget(world).charge(System.nanoTime() - start);
+        }
     }
 
     /**
@@ -125,50 +150,73 @@ public class CombatListener {
         //
         // World world = defender.getWorld();
         //
-        // // Process defensive enchantments (Thorns, Iron Skin, etc.)
-        // world.execute(() -> {
-        //     // Check armor enchantments
-        //     for (ItemStack armor : getArmorPieces(defender)) {
-        //         if (ItemUtil.isNullOrEmpty(armor)) continue;
-        //
-        //         Map<String, Integer> enchantments = ItemUtil.getItemEnchantments(armor);
-        //         for (Map.Entry<String, Integer> entry : enchantments.entrySet()) {
-        //             processDefenseEnchantment(entry.getKey(), entry.getValue(),
-        //                 defender, attacker, world, e);
-        //         }
-        //     }
-        // });
+        // // Player attackers already ran the full pipeline in handleEntityDamage
+        // DamagePipeline pipeline = plugin.getDamagePipeline();
+        // double base = attacker instanceof Player
+        //     ? e.getDamage()
+        //     : pipeline.apply(DamageProfile.NONE, pipeline.getProfile(PlayerUtil.getPlayerUUID(defender)), e.getDamage());
+        //
+        // // Armor stats were applied per piece by the profile; trigger handlers see levels summed across pieces
+        // Loadout loadout = plugin.getSessionManager().getLoadout(PlayerUtil.getPlayerUUID(defender));
+        // EnchantmentSet enchantments = loadout.getArmor();
+        //
+        // // Process defensive enchantments (Thorns, etc.)
+        // RegistrySnapshot snapshot = plugin.getEnchantmentManager().getSnapshot();
+        // double damage = snapshot.getDefendTriggers().matches(enchantments)
+        //     ? processDefenseEnchantments(snapshot.getDefendTriggers(), enchantments, defender, attacker, world, e, base)
+        //     : base;
+        //
+        // // The event fires on the world thread; set the result before it resolves
+        // e.setDamage(damage);
     }
 
     /**
      * Process defense-related enchantments
+     * Only handlers implementing DefendTrigger are visited, highest priority first.
+     *
+     * @return The damage after all handlers have adjusted it
      */
-    private static void processDefenseEnchantment(String enchantId, int level,
-                                           Player defender, LivingEntity attacker,
-                                           World world, Object event) {
+    private static double processDefenseEnchantments(TriggerTable<DefendTrigger> table, EnchantmentSet enchantments,
+                                                     Player defender, LivingEntity attacker,
+                                                     World world, Object event, double damage) {
         HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
-        EnchantmentHandler handler = plugin.getEnchantmentManager().getHandler(enchantId);
-        if (handler == null) return;
-
-        // Build context
-        EnchantmentContext context = EnchantmentContext.builder()
-                .player(defender)
-                .world(world)
-                .enchantmentId(enchantId)
-                .level(level)
-                .event(event)
-                .data(Map.of("attacker", attacker))
-                .build();
-
-        // Check if should process
-        if (!handler.shouldProcess(context)) return;
-
-        // Trigger defense enchantment
-        handler.onDefend(context);
-
-        // Track statistics
-        plugin.getDatabaseManager().incrementStatistic(enchantId,
-            com.hyfactions.enchanter.database.DatabaseManager.StatisticType.TRIGGERS);
+        long start = System.nanoTime();
+
+        // One recycled context for the whole hit
+        EnchantmentContext context = EnchantmentContext.acquire();
+        try {
+            context.setPlayer(defender);
+            context.setWorld(world);
+            context.setEvent(event);
+            context.setAttacker(attacker);
+            context.initDamage(damage);
+
+            for (int i = 0; i < table.size(); i++) {
+                int ordinal = table.ordinalAt(i);
+                int level = enchantments.levelOf(ordinal);
+                if (level == 0) continue;
+
+                DefendTrigger handler = table.handlerAt(i);
+                CustomEnchantment enchantment = handler.getEnchantment();
+                context.forEnchantment(enchantment, ordinal, level);
+
+                // Check if should process
+                if (!handler.shouldProcess(context)) continue;
+
+                // Trigger enchantment effect
+                handler.onDefend(context);
+
+                // Track statistics
+                plugin.getDatabaseManager().incrementStatistic(ordinal,
+                    com.hyfactions.enchanter.database.DatabaseManager.StatisticType.TRIGGERS);
+            }
+            return context.getDamage();
+        } finally {
+            context.release();
+
+            // Critical work always runs, but counts against the world's budget
+            plugin.getTickBudgetManager().getBudget(world).charge(System.nanoTime() - start);
+        }
     }
 
     /**
@@ -185,24 +233,16 @@ public class CombatListener {
         //
         // if (!(killer instanceof Player player)) return;
         //
-        // // Process death-related effects
-        // // - Soul Reaper enchantment
+        // // Kill enchantments on the weapon (Soul Reaper, ...)
+        // EnchantmentSet enchantments = plugin.getSessionManager()
+        //     .getLoadout(PlayerUtil.getPlayerUUID(player)).getHeld();
+        // TriggerTable<KillTrigger> table = plugin.getEnchantmentManager().getSnapshot().getKillTriggers();
+        // if (table.matches(enchantments)) {
+        //     player.getWorld().execute(() -> { ... table.handlerAt(i).onKill(context) ... });
+        // }
+        //
+        // // Other death-related effects
         // // - Blood Magic ability
         // // - Kill streak bonuses
     }
-
-    /**
-     * Get armor pieces from player
-     * TODO: Implement when Hytale inventory API is available
-     */
-    private static ItemStack[] getArmorPieces(Player player) {
-        // This will need to access player's armor slots
-        // return new ItemStack[] {
-        //     player.getInventory().getHelmet(),
-        //     player.getInventory().getChestplate(),
-        //     player.getInventory().getLeggings(),
-        //     player.getInventory().getBoots()
-        // };
-        return new ItemStack[0];
-    }
 }
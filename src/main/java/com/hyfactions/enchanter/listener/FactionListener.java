@@ -23,6 +23,7 @@ public class FactionListener {
         // eventRegistry.registerGlobal(FactionTerritoryEnterEvent.class, FactionListener::handleTerritoryEnter);
         // eventRegistry.registerGlobal(FactionTerritoryExitEvent.class, FactionListener::handleTerritoryExit);
         // eventRegistry.registerGlobal(FactionRaidStartEvent.class, FactionListener::handleRaidStart);
+        // eventRegistry.registerGlobal(FactionRaidEndEvent.class, FactionListener::handleRaidEnd);
 
         HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
         plugin.getLogger().info("FactionListener registered (waiting for faction events)");
@@ -43,6 +44,9 @@ public class FactionListener {
         //
         // // Check if player is in their own faction territory
         // if (isPlayerInOwnTerritory(player, faction)) {
+        //     // Territory multipliers apply from the next hit
+        //     plugin.getSessionManager().getOrCreateSession(PlayerUtil.getPlayerUUID(player)).setInFactionTerritory(true);
+        //
         //     // Apply faction bonuses
         //     applyFactionBonuses(player, faction);
         //     player.sendMessage(Message.raw("§aEntered faction territory - bonuses active!"));
@@ -63,6 +67,7 @@ public class FactionListener {
         // Faction faction = e.getFaction();
         //
         // // Remove faction bonuses
+        // plugin.getSessionManager().getOrCreateSession(PlayerUtil.getPlayerUUID(player)).setInFactionTerritory(false);
         // removeFactionBonuses(player, faction);
         // player.sendMessage(Message.raw("§7Left faction territory - bonuses removed"));
     }
@@ -74,6 +79,35 @@ public class FactionListener {
     public static void handleRaidStart(Object event) {
         // This will be implemented when faction system provides raid events
         // Can activate special enchantment effects during raids
+        // Pseudocode for future implementation:
+
+        // FactionRaidStartEvent e = (FactionRaidStartEvent) event;
+        //
+        // // Raid multipliers apply from the next hit; cleared again when the raid ends
+        // for (Player participant : e.getParticipants()) {
+        //     plugin.getSessionManager().getOrCreateSession(PlayerUtil.getPlayerUUID(participant)).setInRaid(true);
+        // }
+    }
+
+    /**
+     * Handle faction raid end
+     * TODO: Implement when faction events are available
+     */
+    public static void handleRaidEnd(Object event) {
+        // This will be implemented when faction system provides raid events
+        // Pseudocode for future implementation:
+
+        // FactionRaidEndEvent e = (FactionRaidEndEvent) event;
+        //
+        // // Drop raid multipliers; players still in another raid keep them
+        // FactionManager factions = plugin.getFactionManager();
+        // for (Player participant : e.getParticipants()) {
+        //     UUID uuid = PlayerUtil.getPlayerUUID(participant);
+        //     PlayerSession session = plugin.getSessionManager().getSession(uuid);
+        //     if (session != null) {
+        //         session.setInRaid(factions.isInRaid(uuid));
+        //     }
+        // }
     }
 
     /**
@@ -1,6 +1,10 @@
 package com.hyfactions.enchanter.listener;
 
 import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.enchantment.EnchantmentContext;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+import com.hyfactions.enchanter.enchantment.trigger.EquipTrigger;
+import com.hyfactions.enchanter.enchantment.trigger.TriggerTable;
 import com.hyfactions.enchanter.util.ItemUtil;
 import com.hyfactions.enchanter.util.PlayerUtil;
 
@@ -9,8 +13,6 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.EventRegistry;
 import com.hypixel.hytale.server.core.item.ItemStack;
 
-import java.util.Map;
-
 /**
  * Handles item equip/unequip events for passive enchantment effects
  */
@@ -48,12 +50,13 @@ public class ItemListener {
         //     if (ItemUtil.isNullOrEmpty(armor)) return;
         //
         //     // Get enchantments on armor
-        //     Map<String, Integer> enchantments = ItemUtil.getItemEnchantments(armor);
+        //     EnchantmentSet enchantments = ItemUtil.getItemEnchantments(armor);
         //
         //     // Apply passive effects
-        //     for (Map.Entry<String, Integer> entry : enchantments.entrySet()) {
-        //         applyPassiveEffect(player, entry.getKey(), entry.getValue());
-        //     }
+        //     applyPassiveEffects(player, enchantments);
+        //
+        //     // Armor changed - rebuild the combat loadout
+        //     plugin.getSessionManager().refreshLoadout(player);
         // });
     }
 
@@ -74,12 +77,13 @@ public class ItemListener {
         //     if (ItemUtil.isNullOrEmpty(armor)) return;
         //
         //     // Get enchantments on armor
-        //     Map<String, Integer> enchantments = ItemUtil.getItemEnchantments(armor);
+        //     EnchantmentSet enchantments = ItemUtil.getItemEnchantments(armor);
         //
         //     // Remove passive effects
-        //     for (Map.Entry<String, Integer> entry : enchantments.entrySet()) {
-        //         removePassiveEffect(player, entry.getKey(), entry.getValue());
-        //     }
+        //     removePassiveEffects(player, enchantments);
+        //
+        //     // Armor changed - rebuild the combat loadout
+        //     plugin.getSessionManager().refreshLoadout(player);
         // });
     }
 
@@ -90,24 +94,73 @@ public class ItemListener {
     public static void handleItemHeldChange(Object event) {
         // This will be implemented when Hytale API provides item switch events
         // Useful for abilities that activate when switching to a specific item
+        // Pseudocode for future implementation:
+
+        // ItemHeldChangeEvent e = (ItemHeldChangeEvent) event;
+        // Player player = e.getPlayer();
+        //
+        // // Held item changed - rebuild the combat loadout
+        // player.getWorld().execute(() -> plugin.getSessionManager().refreshLoadout(player));
     }
 
     /**
-     * Apply passive enchantment effect
+     * Apply passive enchantment effects
+     * Effects like speed boost or regeneration persist while the item is equipped.
      */
-    private static void applyPassiveEffect(Player player, String enchantId, int level) {
-        // Apply passive effects like speed boost, regeneration, etc.
-        // These effects persist while the item is equipped
+    private static void applyPassiveEffects(Player player, EnchantmentSet enchantments) {
         HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
-        plugin.getLogger().debug("Applied passive effect: " + enchantId + " level " + level);
+        TriggerTable<EquipTrigger> table = plugin.getEnchantmentManager().getSnapshot().getEquipTriggers();
+        if (!table.matches(enchantments)) return;
+
+        EnchantmentContext context = passiveContext(player);
+        try {
+            for (int i = 0; i < table.size(); i++) {
+                int ordinal = table.ordinalAt(i);
+                int level = enchantments.levelOf(ordinal);
+                if (level == 0) continue;
+
+                EquipTrigger handler = table.handlerAt(i);
+                context.forEnchantment(handler.getEnchantment(), ordinal, level);
+                if (!handler.shouldProcess(context)) continue;
+
+                handler.onEquip(context);
+                plugin.getLogger().fine("Applied passive effect: " + context.getEnchantmentId() + " level " + level);
+            }
+        } finally {
+            context.release();
+        }
     }
 
     /**
-     * Remove passive enchantment effect
+     * Remove passive enchantment effects when the item is unequipped
      */
-    private static void removePassiveEffect(Player player, String enchantId, int level) {
-        // Remove passive effects when item is unequipped
+    private static void removePassiveEffects(Player player, EnchantmentSet enchantments) {
         HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
-        plugin.getLogger().debug("Removed passive effect: " + enchantId + " level " + level);
+        TriggerTable<EquipTrigger> table = plugin.getEnchantmentManager().getSnapshot().getEquipTriggers();
+        if (!table.matches(enchantments)) return;
+
+        EnchantmentContext context = passiveContext(player);
+        try {
+            for (int i = 0; i < table.size(); i++) {
+                int ordinal = table.ordinalAt(i);
+                int level = enchantments.levelOf(ordinal);
+                if (level == 0) continue;
+
+                // Always undo, even if the handler would no longer process
+                EquipTrigger handler = table.handlerAt(i);
+                context.forEnchantment(handler.getEnchantment(), ordinal, level);
+                handler.onUnequip(context);
+                plugin.getLogger().fine("Removed passive effect: " + context.getEnchantmentId() + " level " + level);
+            }
+        } finally {
+            context.release();
+        }
+    }
+
+    private static EnchantmentContext passiveContext(Player player) {
+        EnchantmentContext context = EnchantmentContext.acquire();
+        context.setPlayer(player);
+        context.setWorld(player.getWorld());
+        return context;
     }
 }
@@ -1,6 +1,7 @@
 package com.hyfactions.enchanter.listener;
 
 import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.session.PlayerSession;
 import com.hyfactions.enchanter.util.PlayerUtil;
 
 // Hytale Core API imports
@@ -40,6 +41,15 @@ public class PlayerListener {
 
         plugin.getLogger().info("Player " + PlayerUtil.getName(player) + " ready - loading enchantment data");
 
+        // Start the session and capture the initial loadout
+        PlayerSession session = plugin.getSessionManager().getOrCreateSession(playerUuid);
+        if (plugin.getFactionManager() != null) {
+            // Seed faction state; faction events keep it current from here
+            session.setInFactionTerritory(plugin.getFactionManager().isInFactionTerritory(playerUuid));
+            session.setInRaid(plugin.getFactionManager().isInRaid(playerUuid));
+        }
+        player.getWorld().execute(() -> plugin.getSessionManager().refreshLoadout(player));
+
         // Load player's enchantment data from database asynchronously
         plugin.getTaskRegistry().async(() -> {
             // Load enchantments
@@ -78,8 +88,9 @@ public class PlayerListener {
         //
         // plugin.getLogger().info("Player " + PlayerUtil.getName(player) + " disconnected - saving data");
         //
-        // // Clear cooldowns from memory
-        // plugin.getCooldownManager().clearPlayerCooldowns(playerUuid);
+        // // Cancel pending ability timers, then drop the session with its loadout and cooldowns
+        // plugin.getAbilityManager().handleDisconnect(playerUuid);
+        // plugin.getSessionManager().removeSession(playerUuid);
         //
         // // Save any pending data
         // plugin.getTaskRegistry().async(() -> {
@@ -98,7 +109,10 @@ public class PlayerListener {
         // Player player = event.getPlayer();
         // HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
         // if (event.getAction() == Action.RIGHT_CLICK_AIR || event.getAction() == Action.RIGHT_CLICK_BLOCK) {
-        //     plugin.getAbilityManager().tryActivateAbility(player, "right_click");
+        //     // Becomes RIGHT_CLICK or SNEAK_RIGHT_CLICK, and advances any combo in progress
+        //     plugin.getAbilityManager().handleInput(player, InputKey.RIGHT_CLICK);
+        // } else if (event.getAction() == Action.LEFT_CLICK_AIR || event.getAction() == Action.LEFT_CLICK_BLOCK) {
+        //     plugin.getAbilityManager().handleInput(player, InputKey.LEFT_CLICK);
         // }
     }
 
@@ -107,12 +121,10 @@ public class PlayerListener {
      * TODO: Implement when Hytale provides PlayerToggleSneakEvent
      */
     public static void handlePlayerToggleSneak(Object event) {
-        // Track sneak for double-sneak abilities
+        // Track sneak state; starting to sneak is a SNEAK input (or DOUBLE_SNEAK when repeated quickly)
         // Example:
         // Player player = event.getPlayer();
         // HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
-        // if (event.isSneaking()) {
-        //     plugin.getAbilityManager().trackSneak(player);
-        // }
+        // plugin.getAbilityManager().handleSneakToggle(player, event.isSneaking());
     }
 }
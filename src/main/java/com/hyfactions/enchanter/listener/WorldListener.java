@@ -0,0 +1,43 @@
+package com.hyfactions.enchanter.listener;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+
+// Hytale Core API imports
+import com.hypixel.hytale.server.core.event.EventRegistry;
+import com.hypixel.hytale.server.core.world.World;
+
+/**
+ * Handles world lifecycle events so per-world state does not outlive its world
+ */
+public class WorldListener {
+
+    /**
+     * Register all world events with Hytale EventRegistry
+     */
+    public static void register(EventRegistry eventRegistry) {
+        // TODO: Register world events when Hytale API provides them
+
+        // Example registration (uncomment when events are available):
+        // eventRegistry.registerGlobal(RemoveWorldEvent.class, WorldListener::handleWorldRemove);
+
+        HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
+        plugin.getLogger().info("WorldListener registered (waiting for Hytale world events)");
+    }
+
+    /**
+     * Handle a world being unloaded
+     * Drops the world's tick budget and any cosmetic work still queued for it.
+     * TODO: Implement when Hytale provides RemoveWorldEvent
+     */
+    public static void handleWorldRemove(Object event) {
+        // RemoveWorldEvent e = (RemoveWorldEvent) event;
+        // worldRemoved(e.getWorld());
+    }
+
+    /**
+     * Forget everything tracked for a world
+     */
+    static void worldRemoved(World world) {
+        HyFactionsEnchanter.getInstance().getTickBudgetManager().removeWorld(world);
+    }
+}
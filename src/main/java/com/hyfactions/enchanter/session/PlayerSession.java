@@ -0,0 +1,63 @@
+package com.hyfactions.enchanter.session;
+
+import com.hyfactions.enchanter.ability.CooldownStore;
+import com.hyfactions.enchanter.ability.InputRecognizer;
+import com.hyfactions.enchanter.ability.ManaStore;
+import com.hyfactions.enchanter.combat.DamageProfile;
+import com.hyfactions.enchanter.enchantment.Loadout;
+import com.hyfactions.enchanter.harvest.HarvestBatch;
+import com.hyfactions.enchanter.tick.TimingWheel;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory state for an online player
+ * Created when the player is ready and dropped on disconnect.
+ */
+@Getter
+public class PlayerSession {
+
+    private final UUID playerUuid;
+
+    // Equipped enchantments, replaced whenever equipment changes
+    @Setter
+    private volatile Loadout loadout = Loadout.EMPTY;
+
+    // Faction state, kept current by faction events instead of looked up per hit
+    @Setter
+    private volatile boolean inFactionTerritory;
+    @Setter
+    private volatile boolean inRaid;
+
+    // Compiled damage stages for the current loadout and faction state
+    @Setter
+    private volatile DamageProfile damageProfile;
+
+    // Block drops collected during the current tick
+    private final HarvestBatch harvestBatch = new HarvestBatch();
+
+    // Ability cooldowns by ability ordinal, plus the global cooldown
+    private final CooldownStore cooldowns = new CooldownStore(16);
+
+    // Recent inputs and combo progress
+    private final InputRecognizer inputs = new InputRecognizer();
+
+    // Fires a held back gesture once the combo step window closes; created on first use
+    @Setter
+    private TimingWheel.Timer gestureTimer;
+
+    // Mana, regenerated on read
+    private final ManaStore mana = new ManaStore();
+
+    // Ability ordinal -> tick at which the ability stops being active
+    private final Map<Integer, Long> activeAbilities = new ConcurrentHashMap<>();
+
+    public PlayerSession(UUID playerUuid) {
+        this.playerUuid = playerUuid;
+    }
+}
@@ -0,0 +1,82 @@
+package com.hyfactions.enchanter.session;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.enchantment.Loadout;
+import com.hyfactions.enchanter.util.PlayerUtil;
+
+import com.hypixel.hytale.server.core.entity.entities.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks sessions for online players
+ */
+public class SessionManager {
+
+    private final HyFactionsEnchanter plugin;
+
+    // PlayerUUID -> Session
+    private final Map<UUID, PlayerSession> sessions;
+
+    public SessionManager(HyFactionsEnchanter plugin) {
+        this.plugin = plugin;
+        this.sessions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get a player's session, or null if they are not online
+     */
+    public PlayerSession getSession(UUID playerUuid) {
+        return sessions.get(playerUuid);
+    }
+
+    /**
+     * Get a player's session, creating it if needed
+     */
+    public PlayerSession getOrCreateSession(UUID playerUuid) {
+        return sessions.computeIfAbsent(playerUuid, PlayerSession::new);
+    }
+
+    /**
+     * Drop a player's session
+     */
+    public void removeSession(UUID playerUuid) {
+        sessions.remove(playerUuid);
+    }
+
+    /**
+     * Get a player's equipped loadout
+     * Never touches the inventory; returns an empty loadout for unknown players.
+     */
+    public Loadout getLoadout(UUID playerUuid) {
+        PlayerSession session = sessions.get(playerUuid);
+        return session != null ? session.getLoadout() : Loadout.EMPTY;
+    }
+
+    /**
+     * Recompute a player's loadout from their equipment
+     * Call after anything changes the held item, armor or their enchantments.
+     * Must be called from the player's world thread.
+     */
+    public void refreshLoadout(Player player) {
+        PlayerSession session = getOrCreateSession(PlayerUtil.getPlayerUUID(player));
+        session.setLoadout(Loadout.capture(player));
+    }
+
+    /**
+     * Get the number of online sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Shutdown - drop all sessions
+     */
+    public void shutdown() {
+        sessions.clear();
+        plugin.getLogger().info("Session manager shut down.");
+    }
+}
@@ -0,0 +1,151 @@
+package com.hyfactions.enchanter.tick;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+
+import com.hypixel.hytale.server.core.world.World;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Enchantment time budget for one world
+ *
+ * Critical work (damage, healing) always runs and is charged to the
+ * current tick. Deferrable work (particles, sounds, messages) runs while
+ * budget remains and is queued once it is spent; the queue is drained
+ * first on the next tick. Everything except the metrics is confined to
+ * the world thread.
+ */
+public class TickBudget {
+
+    private final HyFactionsEnchanter plugin;
+    private final World world;
+    private final long budgetNanos;
+    private final int queueLimit;
+
+    // Deferred work, oldest first
+    private final ArrayDeque<Runnable> deferred = new ArrayDeque<>();
+
+    // True while a tick window is being tracked
+    private boolean active;
+    private long spentNanos;
+
+    // Metrics, read from other threads
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder ticksOverBudget = new LongAdder();
+    private final LongAdder overrunNanos = new LongAdder();
+    private final LongAdder deferredTasks = new LongAdder();
+    private final LongAdder droppedTasks = new LongAdder();
+    private volatile int queueDepth;
+
+    TickBudget(HyFactionsEnchanter plugin, World world, long budgetNanos, int queueLimit) {
+        this.plugin = plugin;
+        this.world = world;
+        this.budgetNanos = budgetNanos;
+        this.queueLimit = queueLimit;
+    }
+
+    /**
+     * Charge critical work to the current tick
+     * Critical work is never deferred; measure it and report the time here.
+     */
+    public void charge(long nanos) {
+        begin();
+        spentNanos += nanos;
+    }
+
+    /**
+     * Check if budget is left in the current tick
+     */
+    public boolean hasBudget() {
+        return !active || spentNanos < budgetNanos;
+    }
+
+    /**
+     * Run cosmetic work now if budget allows, otherwise on a later tick
+     * Keeps submission order: nothing jumps ahead of already queued work.
+     */
+    public void defer(Runnable task) {
+        begin();
+
+        if (deferred.isEmpty() && spentNanos < budgetNanos) {
+            run(task);
+            return;
+        }
+
+        if (deferred.size() >= queueLimit) {
+            // Cosmetic work that cannot catch up is dropped rather than piling up
+            droppedTasks.increment();
+            return;
+        }
+
+        deferred.addLast(task);
+        deferredTasks.increment();
+        queueDepth = deferred.size();
+    }
+
+    /**
+     * Open a tick window on first use and schedule its end
+     */
+    private void begin() {
+        if (active) return;
+
+        active = true;
+        spentNanos = 0;
+        plugin.getTaskRegistry().delayed(() -> world.execute(this::endTick), 1);
+    }
+
+    /**
+     * Close the tick window, record metrics and drain deferred work under the new tick's budget
+     */
+    private void endTick() {
+        ticks.increment();
+        if (spentNanos > budgetNanos) {
+            ticksOverBudget.increment();
+            overrunNanos.add(spentNanos - budgetNanos);
+        }
+        active = false;
+
+        if (deferred.isEmpty()) return;
+
+        begin();
+        while (!deferred.isEmpty() && spentNanos < budgetNanos) {
+            run(deferred.pollFirst());
+        }
+        queueDepth = deferred.size();
+    }
+
+    private void run(Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } catch (Exception e) {
+            plugin.getLogger().warning("Deferred enchantment task failed: " + e.getMessage());
+        }
+        spentNanos += System.nanoTime() - start;
+    }
+
+    public long getTicks() {
+        return ticks.sum();
+    }
+
+    public long getTicksOverBudget() {
+        return ticksOverBudget.sum();
+    }
+
+    public long getOverrunNanos() {
+        return overrunNanos.sum();
+    }
+
+    public long getDeferredTasks() {
+        return deferredTasks.sum();
+    }
+
+    public long getDroppedTasks() {
+        return droppedTasks.sum();
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+}
@@ -0,0 +1,123 @@
+package com.hyfactions.enchanter.tick;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+
+import com.hypixel.hytale.server.core.world.World;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out the enchantment time budget of each world
+ */
+public class TickBudgetManager {
+
+    private final HyFactionsEnchanter plugin;
+
+    // World -> Budget; entries are removed when their world unloads
+    private final Map<World, TickBudget> budgets;
+
+    private final long budgetNanos;
+    private final int queueLimit;
+
+    public TickBudgetManager(HyFactionsEnchanter plugin) {
+        this.plugin = plugin;
+        this.budgets = new ConcurrentHashMap<>();
+        this.budgetNanos = (long) (plugin.getConfigManager().getTickBudgetMs() * 1_000_000L);
+        this.queueLimit = plugin.getConfigManager().getDeferredQueueLimit();
+    }
+
+    /**
+     * Get the budget of a world
+     */
+    public TickBudget getBudget(World world) {
+        TickBudget budget = budgets.get(world);
+        if (budget != null) {
+            return budget;
+        }
+        return budgets.computeIfAbsent(world, w -> new TickBudget(plugin, w, budgetNanos, queueLimit));
+    }
+
+    /**
+     * Run cosmetic work within a world's budget
+     * Must be called from the world's thread.
+     */
+    public void defer(World world, Runnable task) {
+        getBudget(world).defer(task);
+    }
+
+    /**
+     * Forget an unloaded world and its queued work
+     */
+    public void removeWorld(World world) {
+        budgets.remove(world);
+    }
+
+    /**
+     * Number of tracked worlds
+     */
+    public int getWorldCount() {
+        return budgets.size();
+    }
+
+    /**
+     * Ticks tracked across all worlds
+     */
+    public long getTicks() {
+        long total = 0;
+        for (TickBudget budget : budgets.values()) total += budget.getTicks();
+        return total;
+    }
+
+    /**
+     * Ticks that went over budget, across all worlds
+     */
+    public long getTicksOverBudget() {
+        long total = 0;
+        for (TickBudget budget : budgets.values()) total += budget.getTicksOverBudget();
+        return total;
+    }
+
+    /**
+     * Time spent past the budget, across all worlds
+     */
+    public long getOverrunNanos() {
+        long total = 0;
+        for (TickBudget budget : budgets.values()) total += budget.getOverrunNanos();
+        return total;
+    }
+
+    /**
+     * Tasks pushed to a later tick, across all worlds
+     */
+    public long getDeferredTasks() {
+        long total = 0;
+        for (TickBudget budget : budgets.values()) total += budget.getDeferredTasks();
+        return total;
+    }
+
+    /**
+     * Tasks dropped because a queue was full, across all worlds
+     */
+    public long getDroppedTasks() {
+        long total = 0;
+        for (TickBudget budget : budgets.values()) total += budget.getDroppedTasks();
+        return total;
+    }
+
+    /**
+     * Tasks currently waiting, across all worlds
+     */
+    public int getQueueDepth() {
+        int total = 0;
+        for (TickBudget budget : budgets.values()) total += budget.getQueueDepth();
+        return total;
+    }
+
+    /**
+     * Shutdown - forget all worlds
+     */
+    public void shutdown() {
+        budgets.clear();
+    }
+}
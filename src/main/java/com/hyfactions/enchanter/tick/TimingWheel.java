@@ -0,0 +1,291 @@
+package com.hyfactions.enchanter.tick;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hierarchical timing wheel for tick-based timers
+ *
+ * Four levels of 64 slots cover 64, 4096, 262144 and 16.7M ticks. A timer
+ * sits in the coarsest level that can hold it and moves down as its
+ * deadline approaches, so advancing a tick touches only the current slot:
+ * O(1) plus the timers that expire or cascade. Timers can be cancelled
+ * one by one or per owner in O(1) each, without scanning the wheel.
+ *
+ * Thread-safe; callbacks run on the thread calling {@link #tick()},
+ * outside the lock. A failing callback is logged and does not stop the
+ * others due on the same tick.
+ */
+public final class TimingWheel {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    // Longest delay a timer can be placed for directly; longer ones are re-placed on cascade
+    private static final long MAX_SPAN = 1L << (BITS * LEVELS);
+
+    // [level][slot] -> first timer of the slot's list
+    private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+
+    // Owner -> first timer of the owner's list
+    private final Map<UUID, Timer> owners = new HashMap<>();
+
+    // Ticks advanced so far
+    private long now;
+    private int size;
+
+    private final Logger logger;
+
+    public TimingWheel(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Schedule a callback
+     *
+     * @param delayTicks Ticks from now, at least 1
+     * @param owner      Player the timer belongs to, or null
+     * @param task       Callback
+     * @return Handle for {@link #cancel(Timer)}
+     */
+    public synchronized Timer schedule(long delayTicks, UUID owner, Runnable task) {
+        Timer timer = new Timer(owner, task);
+        reschedule(timer, delayTicks);
+        return timer;
+    }
+
+    /**
+     * Create a timer without scheduling it, for reuse through {@link #reschedule(Timer, long)}
+     *
+     * @param owner Player the timer belongs to, or null
+     * @param task  Callback
+     */
+    public Timer create(UUID owner, Runnable task) {
+        return new Timer(owner, task);
+    }
+
+    /**
+     * Schedule a timer again, moving it if it is still pending
+     * Reusing one timer for a recurring deadline allocates nothing.
+     *
+     * @param delayTicks Ticks from now, at least 1
+     */
+    public synchronized void reschedule(Timer timer, long delayTicks) {
+        if (timer.level >= 0) {
+            unlinkSlot(timer);
+        } else {
+            size++;
+            linkOwner(timer);
+        }
+
+        timer.deadline = now + Math.max(1, delayTicks);
+        place(timer);
+    }
+
+    /**
+     * Cancel a timer
+     *
+     * @return true if the timer was still pending
+     */
+    public synchronized boolean cancel(Timer timer) {
+        if (timer == null || timer.level < 0) return false;
+
+        unlinkSlot(timer);
+        unlinkOwner(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Cancel every timer of an owner
+     *
+     * @return Number of timers cancelled
+     */
+    public synchronized int cancelAll(UUID owner) {
+        Timer timer = owners.remove(owner);
+        int cancelled = 0;
+
+        while (timer != null) {
+            Timer next = timer.ownerNext;
+            unlinkSlot(timer);
+            timer.ownerPrev = null;
+            timer.ownerNext = null;
+            size--;
+            cancelled++;
+            timer = next;
+        }
+        return cancelled;
+    }
+
+    /**
+     * Advance one tick and run the timers that expire
+     */
+    public void tick() {
+        List<Runnable> expired = null;
+
+        synchronized (this) {
+            now++;
+
+            // Move coarser timers down when a level wraps
+            for (int level = 1; level < LEVELS; level++) {
+                if ((now & ((1L << (BITS * level)) - 1)) != 0) break;
+                cascade(level, (int) ((now >> (BITS * level)) & MASK));
+            }
+
+            int index = (int) (now & MASK);
+            Timer timer = slots[0][index];
+            slots[0][index] = null;
+
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                timer.level = -1;
+
+                if (timer.deadline > now) {
+                    // Guard: not due yet, put it back
+                    place(timer);
+                } else {
+                    unlinkOwner(timer);
+                    size--;
+                    if (expired == null) expired = new ArrayList<>();
+                    expired.add(timer.task);
+                }
+                timer = next;
+            }
+        }
+
+        if (expired != null) {
+            for (Runnable task : expired) {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "Timer task failed", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Current tick
+     */
+    public synchronized long getCurrentTick() {
+        return now;
+    }
+
+    /**
+     * Number of pending timers
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade(int level, int index) {
+        Timer timer = slots[level][index];
+        slots[level][index] = null;
+
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+            place(timer);
+            timer = next;
+        }
+    }
+
+    private void place(Timer timer) {
+        long delta = timer.deadline - now;
+        long target = delta < MAX_SPAN ? timer.deadline : now + MAX_SPAN - 1;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+
+        int index = (int) ((target >> (BITS * level)) & MASK);
+        Timer head = slots[level][index];
+        timer.next = head;
+        if (head != null) head.prev = timer;
+        slots[level][index] = timer;
+        timer.level = level;
+        timer.index = index;
+    }
+
+    private void unlinkSlot(Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else if (timer.level >= 0) {
+            slots[timer.level][timer.index] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.level = -1;
+    }
+
+    private void linkOwner(Timer timer) {
+        if (timer.owner == null) return;
+
+        Timer head = owners.get(timer.owner);
+        timer.ownerNext = head;
+        if (head != null) head.ownerPrev = timer;
+        owners.put(timer.owner, timer);
+    }
+
+    private void unlinkOwner(Timer timer) {
+        if (timer.owner == null) return;
+
+        if (timer.ownerPrev != null) {
+            timer.ownerPrev.ownerNext = timer.ownerNext;
+        } else if (timer.ownerNext != null) {
+            owners.put(timer.owner, timer.ownerNext);
+        } else {
+            owners.remove(timer.owner);
+        }
+        if (timer.ownerNext != null) {
+            timer.ownerNext.ownerPrev = timer.ownerPrev;
+        }
+        timer.ownerPrev = null;
+        timer.ownerNext = null;
+    }
+
+    /**
+     * Handle of a scheduled timer
+     */
+    public static final class Timer {
+        private long deadline;
+        private final UUID owner;
+        private final Runnable task;
+
+        // Slot list links; level is -1 once fired or cancelled
+        private Timer prev;
+        private Timer next;
+        private int level = -1;
+        private int index;
+
+        // Owner list links
+        private Timer ownerPrev;
+        private Timer ownerNext;
+
+        private Timer(UUID owner, Runnable task) {
+            this.owner = owner;
+            this.task = task;
+        }
+
+        /**
+         * Tick at which the timer fires, or last fired
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.hyfactions.enchanter.util;
 
+import com.hyfactions.enchanter.HyFactionsEnchanter;
 import com.hypixel.hytale.server.core.world.World;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.math.Position;
@@ -7,9 +8,19 @@ import com.hypixel.hytale.math.Position;
 /**
  * Utility class for spawning particles, sounds, and visual effects
  * All methods ensure proper world thread execution
+ * Effects are cosmetic, so they run within the world's enchantment time
+ * budget and are pushed to a later tick when it is spent.
  */
 public class EffectUtil {
 
+    /**
+     * Run a cosmetic effect on the world thread, within the world's time budget
+     */
+    private static void runCosmetic(World world, Runnable effect) {
+        HyFactionsEnchanter plugin = HyFactionsEnchanter.getInstance();
+        world.execute(() -> plugin.getTickBudgetManager().defer(world, effect));
+    }
+
     /**
      * Spawn a particle effect at a location
      * TODO: Implement when Hytale particle API is available
@@ -20,11 +31,16 @@ public class EffectUtil {
      * @param count    Number of particles
      */
     public static void spawnParticle(World world, Position position, String particle, int count) {
-        world.execute(() -> {
-            // Note: This will use Hytale's actual particle system
-            // Pseudocode for future implementation:
-            // world.spawnParticle(ParticleType.valueOf(particle), position, count);
-        });
+        runCosmetic(world, () -> particleAt(world, position, particle, count));
+    }
+
+    /**
+     * Spawn particles right away; for use inside an already budgeted effect
+     */
+    private static void particleAt(World world, Position position, String particle, int count) {
+        // Note: This will use Hytale's actual particle system
+        // Pseudocode for future implementation:
+        // world.spawnParticle(ParticleType.valueOf(particle), position, count);
     }
 
     /**
@@ -39,7 +55,7 @@ public class EffectUtil {
         World world = player.getWorld();
         Position position = player.getPosition();
 
-        world.execute(() -> {
+        runCosmetic(world, () -> {
             // Spawn particles in a circle around the player
             for (int i = 0; i < count; i++) {
                 double angle = (2 * Math.PI * i) / count;
@@ -63,11 +79,16 @@ public class EffectUtil {
      * @param pitch    Sound pitch (0.5-2.0)
      */
     public static void playSound(World world, Position position, String sound, float volume, float pitch) {
-        world.execute(() -> {
-            // Note: This will use Hytale's actual sound system
-            // Pseudocode for future implementation:
-            // world.playSound(position, sound, volume, pitch);
-        });
+        runCosmetic(world, () -> soundAt(world, position, sound, volume, pitch));
+    }
+
+    /**
+     * Play a sound right away; for use inside an already budgeted effect
+     */
+    private static void soundAt(World world, Position position, String sound, float volume, float pitch) {
+        // Note: This will use Hytale's actual sound system
+        // Pseudocode for future implementation:
+        // world.playSound(position, sound, volume, pitch);
     }
 
     /**
@@ -90,13 +111,13 @@ public class EffectUtil {
      * @param position The position to strike
      */
     public static void strikeLightning(World world, Position position) {
-        world.execute(() -> {
+        runCosmetic(world, () -> {
             // Note: This will use Hytale's actual lightning system
             // Pseudocode for future implementation:
             // world.strikeLightning(position);
 
             // For now, just create visual effect
-            spawnParticle(world, position, "FIREWORKS_SPARK", 20);
+            particleAt(world, position, "FIREWORKS_SPARK", 20);
         });
     }
 
@@ -108,10 +129,10 @@ public class EffectUtil {
      * @param radius   Explosion radius for particles
      */
     public static void createExplosion(World world, Position position, double radius) {
-        world.execute(() -> {
+        runCosmetic(world, () -> {
             // Spawn explosion particles
-            spawnParticle(world, position, "EXPLOSION_LARGE", (int) (radius * 10));
-            playSound(world, position, "ENTITY_GENERIC_EXPLODE", 1.0f, 1.0f);
+            particleAt(world, position, "EXPLOSION_LARGE", (int) (radius * 10));
+            soundAt(world, position, "ENTITY_GENERIC_EXPLODE", 1.0f, 1.0f);
         });
     }
 
@@ -124,7 +145,7 @@ public class EffectUtil {
      * @param radius   The radius of the aura
      */
     public static void createAuraEffect(World world, Position position, String particle, double radius) {
-        world.execute(() -> {
+        runCosmetic(world, () -> {
             // Create a circular aura of particles
             int particleCount = (int) (radius * 8);
             for (int i = 0; i < particleCount; i++) {
@@ -134,7 +155,7 @@ public class EffectUtil {
 
                 for (int y = 0; y < 3; y++) {
                     Position particlePos = new Position(x, position.getY() + y * 0.5, z);
-                    spawnParticle(world, particlePos, particle, 1);
+                    particleAt(world, particlePos, particle, 1);
                 }
             }
         });
@@ -149,7 +170,7 @@ public class EffectUtil {
      * @param particle Particle type
      */
     public static void createBeamEffect(World world, Position start, Position end, String particle) {
-        world.execute(() -> {
+        runCosmetic(world, () -> {
             // Calculate distance and direction
             double distance = start.distance(end);
             int steps = (int) (distance * 5); // 5 particles per block
@@ -161,7 +182,7 @@ public class EffectUtil {
                 double z = start.getZ() + (end.getZ() - start.getZ()) * ratio;
 
                 Position particlePos = new Position(x, y, z);
-                spawnParticle(world, particlePos, particle, 1);
+                particleAt(world, particlePos, particle, 1);
             }
         });
     }
@@ -176,7 +197,7 @@ public class EffectUtil {
      * @param radius   Radius of the spiral
      */
     public static void createSpiralEffect(World world, Position position, String particle, double height, double radius) {
-        world.execute(() -> {
+        runCosmetic(world, () -> {
             int steps = 50;
             for (int i = 0; i < steps; i++) {
                 double ratio = (double) i / steps;
@@ -186,7 +207,7 @@ public class EffectUtil {
                 double z = position.getZ() + radius * Math.sin(angle) * (1 - ratio);
 
                 Position particlePos = new Position(x, y, z);
-                spawnParticle(world, particlePos, particle, 1);
+                particleAt(world, particlePos, particle, 1);
             }
         });
     }
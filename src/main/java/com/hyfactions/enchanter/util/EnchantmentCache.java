@@ -0,0 +1,109 @@
+package com.hyfactions.enchanter.util;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+
+import com.hypixel.hytale.server.core.item.ItemStack;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Identity-keyed cache of decoded item enchantments
+ *
+ * Direct-mapped on the item's identity hash: a colliding item simply evicts
+ * the previous entry. Items are held weakly and each entry also remembers
+ * the component instance it was decoded from, so an item whose component
+ * was replaced behind our back is never served stale data.
+ * Lookups take no locks and allocate nothing.
+ */
+public class EnchantmentCache {
+
+    private final Entry[] table;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public EnchantmentCache(int size) {
+        int capacity = Integer.highestOneBit(Math.max(16, size - 1)) << 1;
+        this.table = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Get the decoded enchantments for an item
+     *
+     * @param item      The item
+     * @param component The item's current enchantment component
+     * @return The cached enchantments, or null on a miss
+     */
+    public EnchantmentSet get(ItemStack item, Object component) {
+        Entry entry = table[System.identityHashCode(item) & mask];
+        if (entry != null && entry.component == component && entry.get() == item) {
+            hits.increment();
+            return entry.enchantments;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Cache decoded enchantments for an item
+     *
+     * @param enchantments Decoded enchantments
+     */
+    public void put(ItemStack item, Object component, EnchantmentSet enchantments) {
+        table[System.identityHashCode(item) & mask] = new Entry(item, component, enchantments);
+    }
+
+    /**
+     * Drop the cached enchantments for an item
+     */
+    public void invalidate(ItemStack item) {
+        int index = System.identityHashCode(item) & mask;
+        Entry entry = table[index];
+        if (entry != null && entry.get() == item) {
+            table[index] = null;
+        }
+    }
+
+    /**
+     * Drop every cached entry
+     */
+    public void clear() {
+        Arrays.fill(table, null);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Hit rate as a percentage of all lookups
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (hitCount * 100.0) / total;
+    }
+
+    /**
+     * Immutable cache entry - final fields make it safe to publish through the plain array
+     */
+    private static final class Entry extends WeakReference<ItemStack> {
+        private final Object component;
+        private final EnchantmentSet enchantments;
+
+        private Entry(ItemStack item, Object component, EnchantmentSet enchantments) {
+            super(item);
+            this.component = component;
+            this.enchantments = enchantments;
+        }
+    }
+}
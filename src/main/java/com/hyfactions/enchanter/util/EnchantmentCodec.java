@@ -0,0 +1,196 @@
+package com.hyfactions.enchanter.util;
+
+import com.hyfactions.enchanter.enchantment.EnchantmentManager;
+
+/**
+ * Binary codec for the hyfactions:enchantments item component
+ *
+ * Layout: one version byte, then (ordinal, level) pairs as unsigned varints.
+ * Entries are written sorted by ordinal so equal enchantment sets always
+ * encode to equal bytes. Decoding writes into caller-owned arrays and
+ * never allocates.
+ */
+public final class EnchantmentCodec {
+
+    public static final byte VERSION = 1;
+
+    // Hard cap on entries per item, independent of the configured limit
+    public static final int MAX_ENTRIES = 64;
+
+    // Version byte + worst case varint sizes (3 bytes ordinal, 2 bytes level)
+    public static final int MAX_ENCODED_LENGTH = 1 + MAX_ENTRIES * 5;
+
+    private EnchantmentCodec() {
+    }
+
+    /**
+     * Decode a binary component
+     *
+     * @param data     The component bytes
+     * @param ordinals Output array for ordinals
+     * @param levels   Output array for levels
+     * @return Number of entries decoded, or -1 if the data is not a known version
+     */
+    public static int decode(byte[] data, short[] ordinals, byte[] levels) {
+        if (data == null || data.length == 0 || data[0] != VERSION) {
+            return -1;
+        }
+
+        int capacity = Math.min(ordinals.length, levels.length);
+        int count = 0;
+        int pos = 1;
+
+        while (pos < data.length && count < capacity) {
+            // Ordinal varint
+            int ordinal = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (pos >= data.length) return count;
+                b = data[pos++];
+                ordinal |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0 && shift < 21);
+
+            // Level varint
+            int level = 0;
+            shift = 0;
+            do {
+                if (pos >= data.length) return count;
+                b = data[pos++];
+                level |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0 && shift < 14);
+
+            if (ordinal > Short.MAX_VALUE || level < 1 || level > Byte.MAX_VALUE) {
+                continue;
+            }
+
+            ordinals[count] = (short) ordinal;
+            levels[count] = (byte) level;
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Encode entries into a buffer
+     * Entries are sorted in place by ordinal before writing.
+     *
+     * @param ordinals Entry ordinals
+     * @param levels   Entry levels
+     * @param count    Number of entries
+     * @param out      Output buffer, at least {@link #MAX_ENCODED_LENGTH} bytes
+     * @return Number of bytes written
+     */
+    public static int encode(short[] ordinals, byte[] levels, int count, byte[] out) {
+        count = Math.min(count, MAX_ENTRIES);
+        sort(ordinals, levels, count);
+
+        int pos = 0;
+        out[pos++] = VERSION;
+
+        for (int i = 0; i < count; i++) {
+            pos = writeVarInt(out, pos, ordinals[i] & 0xFFFF);
+            pos = writeVarInt(out, pos, levels[i] & 0xFF);
+        }
+
+        return pos;
+    }
+
+    /**
+     * Decode a legacy "ID:LEVEL,ID:LEVEL" string component
+     * Only used once per item, when upgrading it to the binary format.
+     * IDs resolve against registered enchantments only; unknown IDs never get an ordinal.
+     *
+     * @return Number of entries decoded, or its complement ({@code ~count}) if an ID was not
+     *         registered - the registered entries are still decoded
+     */
+    public static int decodeLegacy(String data, EnchantmentManager registry, short[] ordinals, byte[] levels) {
+        if (data == null || data.isEmpty()) {
+            return 0;
+        }
+
+        int capacity = Math.min(ordinals.length, levels.length);
+        int count = 0;
+        boolean unknown = false;
+        int start = 0;
+        int length = data.length();
+
+        while (start < length && count < capacity) {
+            int end = data.indexOf(',', start);
+            if (end < 0) end = length;
+
+            int colon = data.indexOf(':', start);
+            if (colon > start && colon < end - 1) {
+                int level = parseLevel(data, colon + 1, end);
+                if (level > 0) {
+                    int ordinal = registry.getOrdinal(EnchantmentManager.normalizeId(data.substring(start, colon)));
+                    if (ordinal < 0) {
+                        unknown = true;
+                    } else {
+                        ordinals[count] = (short) ordinal;
+                        levels[count] = (byte) level;
+                        count++;
+                    }
+                }
+            }
+
+            start = end + 1;
+        }
+
+        return unknown ? ~count : count;
+    }
+
+    /**
+     * Parse a positive level from a string range without allocating
+     *
+     * @return The level, or -1 if the range is not a valid level
+     */
+    private static int parseLevel(String data, int from, int to) {
+        int value = 0;
+        boolean digits = false;
+
+        for (int i = from; i < to; i++) {
+            char c = data.charAt(i);
+            if (c == ' ') continue;
+            if (c < '0' || c > '9') return -1;
+
+            value = value * 10 + (c - '0');
+            if (value > Byte.MAX_VALUE) return -1;
+            digits = true;
+        }
+
+        return digits ? value : -1;
+    }
+
+    private static int writeVarInt(byte[] out, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    /**
+     * Insertion sort by ordinal - entry counts are tiny, so this beats anything fancier
+     */
+    private static void sort(short[] ordinals, byte[] levels, int count) {
+        for (int i = 1; i < count; i++) {
+            short ordinal = ordinals[i];
+            byte level = levels[i];
+            int j = i - 1;
+
+            while (j >= 0 && ordinals[j] > ordinal) {
+                ordinals[j + 1] = ordinals[j];
+                levels[j + 1] = levels[j];
+                j--;
+            }
+
+            ordinals[j + 1] = ordinal;
+            levels[j + 1] = level;
+        }
+    }
+}
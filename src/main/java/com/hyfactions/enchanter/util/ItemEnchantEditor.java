@@ -0,0 +1,177 @@
+package com.hyfactions.enchanter.util;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.enchantment.EnchantmentManager;
+import com.hyfactions.enchanter.enchantment.EnchantmentOrdinals;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+
+import com.hypixel.hytale.server.core.item.ItemStack;
+
+import lombok.Getter;
+
+/**
+ * Batches several enchantment changes against one item
+ *
+ * Changes are applied to an in-memory copy of the item's enchantments.
+ * {@link #commit()} validates conflicts and the per-item limit once, then
+ * writes the component and lore a single time.
+ * Must be used from the world thread that owns the item.
+ *
+ * <pre>
+ * Result result = ItemUtil.edit(item)
+ *         .add("LIFESTEAL", 2)
+ *         .remove("POISON_STRIKE")
+ *         .commit();
+ * </pre>
+ */
+public class ItemEnchantEditor {
+
+    public enum Result {
+        SUCCESS,
+        UNCHANGED,
+        INVALID_ITEM,
+        CONFLICT,
+        MAX_ENCHANTMENTS,
+        UNKNOWN_ENCHANTMENT
+    }
+
+    private final ItemStack item;
+    private final EnchantmentManager manager;
+    private final EnchantmentOrdinals ordinals;
+
+    // Enchantments on the item when the editor was opened
+    @Getter
+    private final EnchantmentSet original;
+
+    // Enchantments as they will be written on commit
+    @Getter
+    private EnchantmentSet pending;
+
+    private boolean checkRestrictions = true;
+
+    // Set when commit fails with CONFLICT
+    @Getter
+    private String conflictingId;
+    @Getter
+    private String conflictedWithId;
+
+    // Set when an added enchantment is not registered; commit then fails with UNKNOWN_ENCHANTMENT
+    @Getter
+    private String unknownId;
+
+    ItemEnchantEditor(ItemStack item) {
+        this.item = item;
+        this.manager = HyFactionsEnchanter.getInstance().getEnchantmentManager();
+        this.ordinals = manager.getOrdinals();
+        this.original = ItemUtil.getItemEnchantments(item);
+        this.pending = original;
+    }
+
+    /**
+     * Add an enchantment, replacing its level if already present
+     * Unregistered IDs are rejected on commit rather than given an ordinal.
+     */
+    public ItemEnchantEditor add(String enchantmentId, int level) {
+        String id = EnchantmentManager.normalizeId(enchantmentId);
+        int ordinal = manager.getOrdinal(id);
+        if (ordinal < 0) {
+            this.unknownId = id;
+            return this;
+        }
+        return add(ordinal, level);
+    }
+
+    /**
+     * Add an enchantment by ordinal, replacing its level if already present
+     */
+    public ItemEnchantEditor add(int ordinal, int level) {
+        pending = pending.with(ordinal, level);
+        return this;
+    }
+
+    /**
+     * Remove an enchantment if present
+     */
+    public ItemEnchantEditor remove(String enchantmentId) {
+        return remove(ordinals.lookup(EnchantmentManager.normalizeId(enchantmentId)));
+    }
+
+    /**
+     * Remove an enchantment by ordinal if present
+     */
+    public ItemEnchantEditor remove(int ordinal) {
+        if (ordinal >= 0) {
+            pending = pending.without(ordinal);
+        }
+        return this;
+    }
+
+    /**
+     * Remove every enchantment
+     */
+    public ItemEnchantEditor clear() {
+        pending = EnchantmentSet.EMPTY;
+        return this;
+    }
+
+    /**
+     * Skip the conflict and per-item limit checks on commit
+     */
+    public ItemEnchantEditor ignoreRestrictions() {
+        this.checkRestrictions = false;
+        return this;
+    }
+
+    /**
+     * Validate all pending changes and write them to the item
+     *
+     * @return The outcome; nothing is written unless it is SUCCESS
+     */
+    public Result commit() {
+        if (ItemUtil.isNullOrEmpty(item)) {
+            return Result.INVALID_ITEM;
+        }
+
+        if (unknownId != null) {
+            return Result.UNKNOWN_ENCHANTMENT;
+        }
+
+        if (pending.equals(original)) {
+            return Result.UNCHANGED;
+        }
+
+        if (checkRestrictions) {
+            // Only growth past the limit is rejected, so lowering the limit never locks items
+            int maxEnchants = HyFactionsEnchanter.getInstance().getConfigManager().getMaxEnchantsPerItem();
+            if (pending.size() > maxEnchants && pending.size() > original.size()) {
+                return Result.MAX_ENCHANTMENTS;
+            }
+
+            if (HyFactionsEnchanter.getInstance().getConfigManager().isCheckConflicts() && hasConflict()) {
+                return Result.CONFLICT;
+            }
+        }
+
+        // Single component write and lore update
+        ItemUtil.setItemEnchantments(item, pending);
+        return Result.SUCCESS;
+    }
+
+    /**
+     * Check every newly added enchantment against the whole pending set
+     */
+    private boolean hasConflict() {
+        for (int i = 0; i < pending.size(); i++) {
+            int added = pending.ordinalAt(i);
+            if (original.contains(added)) continue;
+
+            int other = manager.findConflict(added, pending);
+            if (other >= 0) {
+                this.conflictingId = ordinals.idOf(added);
+                this.conflictedWithId = ordinals.idOf(other);
+                return true;
+            }
+        }
+        return false;
+    }
+}
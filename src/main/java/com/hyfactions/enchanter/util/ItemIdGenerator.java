@@ -0,0 +1,35 @@
+package com.hyfactions.enchanter.util;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates persistent item identifiers
+ *
+ * IDs are (node ID, process start time, counter): unique across servers
+ * that share a database as long as each has its own node ID, and across
+ * restarts because the start time changes. Generating one is a single
+ * atomic increment - no SecureRandom on the world thread.
+ */
+public class ItemIdGenerator {
+
+    private final long mostSignificantBits;
+    private final AtomicLong counter;
+
+    public ItemIdGenerator(int nodeId) {
+        this(nodeId, System.currentTimeMillis());
+    }
+
+    public ItemIdGenerator(int nodeId, long epochMillis) {
+        // 16 bits of node ID, 48 bits of start time (good until the year 10889)
+        this.mostSignificantBits = ((long) (nodeId & 0xFFFF) << 48) | (epochMillis & 0xFFFFFFFFFFFFL);
+        this.counter = new AtomicLong();
+    }
+
+    /**
+     * Generate the next item ID
+     */
+    public UUID next() {
+        return new UUID(mostSignificantBits, counter.incrementAndGet());
+    }
+}
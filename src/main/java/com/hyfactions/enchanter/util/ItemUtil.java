@@ -1,5 +1,10 @@
 package com.hyfactions.enchanter.util;
 
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.enchantment.EnchantmentManager;
+import com.hyfactions.enchanter.enchantment.EnchantmentOrdinals;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+
 import com.hypixel.hytale.server.core.item.ItemStack;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.component.ComponentStore;
@@ -15,16 +20,25 @@ public class ItemUtil {
     // Custom component key for storing enchantments
     public static final String ENCHANTMENT_COMPONENT = "hyfactions:enchantments";
 
+    // Custom component key for the persistent item identifier
+    public static final String ITEM_ID_COMPONENT = "hyfactions:item_id";
+
+    // Number of armor slots
+    public static final int ARMOR_SLOTS = 4;
+
+    // Per-thread decode/encode buffers so the hot path does not allocate
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     /**
      * Get enchantments from an item
      * Reads from the item's component store
      *
      * @param item The item to check
-     * @return Map of enchantment ID to level
+     * @return The item's enchantments
      */
-    public static Map<String, Integer> getItemEnchantments(ItemStack item) {
+    public static EnchantmentSet getItemEnchantments(ItemStack item) {
         if (item == null || item.isEmpty()) {
-            return Collections.emptyMap();
+            return EnchantmentSet.EMPTY;
         }
 
         // Access item components
@@ -32,32 +46,71 @@ public class ItemUtil {
 
         // Check if has enchantment component
         if (!components.has(ENCHANTMENT_COMPONENT)) {
-            return Collections.emptyMap();
+            return EnchantmentSet.EMPTY;
         }
 
-        // Retrieve enchantment data
+        // Unchanged items are served straight from the cache
         Component enchantComponent = components.get(ENCHANTMENT_COMPONENT);
-        Map<String, Integer> enchantments = new HashMap<>();
+        EnchantmentCache cache = cache();
+        EnchantmentSet cached = cache.get(item, enchantComponent);
+        if (cached != null) {
+            return cached;
+        }
+
+        Scratch scratch = SCRATCH.get();
+        int count = decode(components, enchantComponent, scratch.ordinals, scratch.levels);
+        EnchantmentSet enchantments = EnchantmentSet.of(scratch.ordinals, scratch.levels, count);
 
-        // Parse enchantment data from component
-        // Format: "ENCHANT_ID:LEVEL,ENCHANT_ID:LEVEL,..."
-        String data = enchantComponent.asString();
-        if (data == null || data.isEmpty()) {
-            return Collections.emptyMap();
+        // Legacy items were rewritten while decoding, so key on the current component
+        cache.put(item, components.get(ENCHANTMENT_COMPONENT), enchantments);
+        return enchantments;
+    }
+
+    /**
+     * Read enchantments from an item into caller-owned arrays
+     * Does not allocate once the item has been upgraded to the binary format.
+     *
+     * @param item     The item to check
+     * @param ordinals Output array for enchantment ordinals
+     * @param levels   Output array for enchantment levels
+     * @return Number of enchantments read
+     */
+    public static int readEnchantments(ItemStack item, short[] ordinals, byte[] levels) {
+        if (item == null || item.isEmpty()) {
+            return 0;
         }
 
-        for (String entry : data.split(",")) {
-            String[] parts = entry.split(":");
-            if (parts.length == 2) {
-                try {
-                    enchantments.put(parts[0], Integer.parseInt(parts[1]));
-                } catch (NumberFormatException e) {
-                    // Skip invalid entries
-                }
-            }
+        // Access item components
+        ComponentStore components = item.getComponents();
+
+        // Check if has enchantment component
+        if (!components.has(ENCHANTMENT_COMPONENT)) {
+            return 0;
         }
 
-        return enchantments;
+        return decode(components, components.get(ENCHANTMENT_COMPONENT), ordinals, levels);
+    }
+
+    /**
+     * Decode an enchantment component, upgrading legacy string data in place
+     */
+    private static int decode(ComponentStore components, Component enchantComponent,
+                              short[] ordinals, byte[] levels) {
+        // Binary format
+        byte[] data = enchantComponent.asBytes();
+        if (data != null) {
+            return Math.max(0, EnchantmentCodec.decode(data, ordinals, levels));
+        }
+
+        // Legacy "ENCHANT_ID:LEVEL,ENCHANT_ID:LEVEL,..." format - upgrade it in place
+        int count = EnchantmentCodec.decodeLegacy(enchantComponent.asString(),
+                HyFactionsEnchanter.getInstance().getEnchantmentManager(), ordinals, levels);
+        if (count < 0) {
+            // Unregistered IDs: keep the legacy data so they are not lost, read what is registered
+            return ~count;
+        }
+        writeEnchantments(components, ordinals, levels, count);
+        return count;
     }
 
     /**
@@ -65,38 +118,53 @@ public class ItemUtil {
      * Writes to the item's component store
      *
      * @param item         The item to modify
-     * @param enchantments Map of enchantment ID to level
+     * @param enchantments The enchantments to store
      */
-    public static void setItemEnchantments(ItemStack item, Map<String, Integer> enchantments) {
+    public static void setItemEnchantments(ItemStack item, EnchantmentSet enchantments) {
         if (item == null || item.isEmpty()) return;
 
+        Scratch scratch = SCRATCH.get();
+        int count = enchantments.copyTo(scratch.ordinals, scratch.levels);
+
+        // Store in component
         ComponentStore components = item.getComponents();
+        writeEnchantments(components, scratch.ordinals, scratch.levels, count);
+        cache().invalidate(item);
 
-        // Build enchantment data string
-        StringBuilder data = new StringBuilder();
-        for (Map.Entry<String, Integer> entry : enchantments.entrySet()) {
-            if (data.length() > 0) data.append(",");
-            data.append(entry.getKey()).append(":").append(entry.getValue());
+        // First enchantment gives the item its persistent identity
+        if (count > 0 && !components.has(ITEM_ID_COMPONENT)) {
+            assignItemUUID(components);
         }
 
-        // Store in component
-        components.set(ENCHANTMENT_COMPONENT, Component.string(data.toString()));
-
         // Update item lore to show enchantments
         updateItemLore(item, enchantments);
     }
 
+    /**
+     * Encode enchantments and store them in the component
+     * The stored array is the only allocation - the component has to own its bytes.
+     */
+    private static void writeEnchantments(ComponentStore components, short[] ordinals, byte[] levels, int count) {
+        byte[] buffer = SCRATCH.get().buffer;
+        int length = EnchantmentCodec.encode(ordinals, levels, count, buffer);
+        components.set(ENCHANTMENT_COMPONENT, Component.bytes(Arrays.copyOf(buffer, length)));
+    }
+
     /**
      * Add an enchantment to an item
      *
      * @param item         The item to modify
      * @param enchantmentId The enchantment to add
      * @param level        The enchantment level
+     * @return false if the enchantment is not registered
      */
-    public static void addEnchantment(ItemStack item, String enchantmentId, int level) {
-        Map<String, Integer> enchantments = new HashMap<>(getItemEnchantments(item));
-        enchantments.put(enchantmentId, level);
-        setItemEnchantments(item, enchantments);
+    public static boolean addEnchantment(ItemStack item, String enchantmentId, int level) {
+        int ordinal = HyFactionsEnchanter.getInstance().getEnchantmentManager()
+                .getOrdinal(EnchantmentManager.normalizeId(enchantmentId));
+        if (ordinal < 0) return false;
+
+        setItemEnchantments(item, getItemEnchantments(item).with(ordinal, level));
+        return true;
     }
 
     /**
@@ -106,9 +174,24 @@ public class ItemUtil {
      * @param enchantmentId The enchantment to remove
      */
     public static void removeEnchantment(ItemStack item, String enchantmentId) {
-        Map<String, Integer> enchantments = new HashMap<>(getItemEnchantments(item));
-        enchantments.remove(enchantmentId);
-        setItemEnchantments(item, enchantments);
+        int ordinal = ordinals().lookup(EnchantmentManager.normalizeId(enchantmentId));
+        if (ordinal < 0) return;
+
+        EnchantmentSet enchantments = getItemEnchantments(item);
+        if (!enchantments.contains(ordinal)) return;
+
+        setItemEnchantments(item, enchantments.without(ordinal));
+    }
+
+    /**
+     * Start a batch of enchantment changes on an item
+     * Changes are validated and written once, on commit.
+     *
+     * @param item The item to modify
+     * @return An editor for the item
+     */
+    public static ItemEnchantEditor edit(ItemStack item) {
+        return new ItemEnchantEditor(item);
     }
 
     /**
@@ -119,7 +202,8 @@ public class ItemUtil {
      * @return true if the item has the enchantment
      */
     public static boolean hasEnchantment(ItemStack item, String enchantmentId) {
-        return getItemEnchantments(item).containsKey(enchantmentId);
+        int ordinal = ordinals().lookup(EnchantmentManager.normalizeId(enchantmentId));
+        return ordinal >= 0 && getItemEnchantments(item).contains(ordinal);
     }
 
     /**
@@ -130,27 +214,41 @@ public class ItemUtil {
      * @return The enchantment level, or 0 if not present
      */
     public static int getEnchantmentLevel(ItemStack item, String enchantmentId) {
-        return getItemEnchantments(item).getOrDefault(enchantmentId, 0);
+        int ordinal = ordinals().lookup(EnchantmentManager.normalizeId(enchantmentId));
+        return ordinal >= 0 ? getItemEnchantments(item).levelOf(ordinal) : 0;
     }
 
     /**
-     * Update item lore to display enchantments
-     * TODO: Implement lore system when Hytale provides it
+     * Check if an item has a specific enchantment
+     * Hot path variant - no string handling.
+     *
+     * @param item    The item to check
+     * @param ordinal The enchantment ordinal
+     * @return true if the item has the enchantment
      */
-    private static void updateItemLore(ItemStack item, Map<String, Integer> enchantments) {
-        // Note: This will need to be implemented when Hytale's
-        // item display/lore system is available
+    public static boolean hasEnchantment(ItemStack item, int ordinal) {
+        return getItemEnchantments(item).contains(ordinal);
+    }
 
-        // Pseudocode for future implementation:
-        // List<String> lore = new ArrayList<>();
-        // lore.add("");
-        // lore.add("§6§lEnchantments:");
-        // for (Map.Entry<String, Integer> entry : enchantments.entrySet()) {
-        //     String displayName = getEnchantmentDisplayName(entry.getKey());
-        //     String level = getRomanNumeral(entry.getValue());
-        //     lore.add("§7• " + displayName + " " + level);
-        // }
-        // item.setLore(lore);
+    /**
+     * Get the level of a specific enchantment on an item
+     * Hot path variant - no string handling.
+     *
+     * @param item    The item to check
+     * @param ordinal The enchantment ordinal
+     * @return The enchantment level, or 0 if not present
+     */
+    public static int getEnchantmentLevel(ItemStack item, int ordinal) {
+        return getItemEnchantments(item).levelOf(ordinal);
+    }
+
+    /**
+     * Update item lore to display enchantments
+     * Lines come from the shared lore cache, so identical kits render once.
+     */
+    private static void updateItemLore(ItemStack item, EnchantmentSet enchantments) {
+        LoreCache loreCache = HyFactionsEnchanter.getInstance().getEnchantmentManager().getLoreCache();
+        item.setLore(loreCache.getLore(enchantments));
     }
 
     /**
@@ -182,6 +280,27 @@ public class ItemUtil {
         }
     }
 
+    /**
+     * Get a player's armor pieces (helmet, chestplate, leggings, boots)
+     * Must be called from world thread
+     *
+     * @param player The player
+     * @return Four slots, empty slots are null
+     */
+    public static ItemStack[] getArmorPieces(Player player) {
+        ItemStack[] pieces = new ItemStack[ARMOR_SLOTS];
+        // Note: This assumes Hytale has similar inventory structure
+        // Adjust based on actual API
+        try {
+            var armor = player.getInventory().getArmor();
+            for (int i = 0; i < ARMOR_SLOTS; i++) {
+                pieces[i] = armor.get(i);
+            }
+        } catch (Exception ignored) {
+        }
+        return pieces;
+    }
+
     /**
      * Check if an item is empty or null
      */
@@ -190,13 +309,71 @@ public class ItemUtil {
     }
 
     /**
-     * Create a unique identifier for an item
-     * Used for database storage
+     * Get the persistent identifier for an item
+     * Used for database storage. Items that do not have one yet are given one.
      */
     public static UUID getItemUUID(ItemStack item) {
-        // TODO: Implement proper item UUID system
-        // For now, generate random UUID
-        // In production, this should be persistent
-        return UUID.randomUUID();
+        ComponentStore components = item.getComponents();
+
+        if (components.has(ITEM_ID_COMPONENT)) {
+            byte[] data = components.get(ITEM_ID_COMPONENT).asBytes();
+            if (data != null && data.length == 16) {
+                return new UUID(readLong(data, 0), readLong(data, 8));
+            }
+        }
+
+        return assignItemUUID(components);
+    }
+
+    /**
+     * Generate an identifier and store it in the item's components
+     */
+    private static UUID assignItemUUID(ComponentStore components) {
+        UUID uuid = HyFactionsEnchanter.getInstance().getItemIdGenerator().next();
+
+        byte[] data = new byte[16];
+        writeLong(data, 0, uuid.getMostSignificantBits());
+        writeLong(data, 8, uuid.getLeastSignificantBits());
+        components.set(ITEM_ID_COMPONENT, Component.bytes(data));
+
+        return uuid;
+    }
+
+    private static long readLong(byte[] data, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void writeLong(byte[] data, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            data[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    /**
+     * Stable enchantment ordinal table used by the item codec
+     */
+    private static EnchantmentOrdinals ordinals() {
+        return HyFactionsEnchanter.getInstance().getEnchantmentManager().getOrdinals();
+    }
+
+    /**
+     * Decoded enchantment cache shared by all world threads
+     */
+    private static EnchantmentCache cache() {
+        return HyFactionsEnchanter.getInstance().getEnchantmentManager().getItemCache();
+    }
+
+    /**
+     * Reusable per-thread codec buffers
+     */
+    private static final class Scratch {
+        private final short[] ordinals = new short[EnchantmentCodec.MAX_ENTRIES];
+        private final byte[] levels = new byte[EnchantmentCodec.MAX_ENTRIES];
+        private final byte[] buffer = new byte[EnchantmentCodec.MAX_ENCODED_LENGTH];
     }
 }
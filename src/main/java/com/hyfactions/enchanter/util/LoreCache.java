@@ -0,0 +1,117 @@
+package com.hyfactions.enchanter.util;
+
+import com.hyfactions.enchanter.HyFactionsEnchanter;
+import com.hyfactions.enchanter.enchantment.CustomEnchantment;
+import com.hyfactions.enchanter.enchantment.EnchantmentManager;
+import com.hyfactions.enchanter.enchantment.EnchantmentSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of rendered enchantment lore
+ *
+ * Keyed by the enchantment set itself - it is immutable and carries a
+ * precomputed hash, so identical kits share one entry and one list of
+ * already colorized lines. Cleared when the registry reloads, since display
+ * names may have changed.
+ */
+public class LoreCache {
+
+    private static final String HEADER = "§6§lEnchantments:";
+
+    private final Map<EnchantmentSet, List<String>> entries;
+
+    // Bumped on clear so a render that raced a reload is not cached
+    private int generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public LoreCache(int maxSize) {
+        int limit = Math.max(16, maxSize);
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<EnchantmentSet, List<String>> eldest) {
+                return size() > limit;
+            }
+        };
+    }
+
+    /**
+     * Get the lore lines for a set of enchantments
+     *
+     * @param enchantments The enchantments to render
+     * @return Immutable, colorized lore lines; empty for an empty set
+     */
+    public List<String> getLore(EnchantmentSet enchantments) {
+        if (enchantments.isEmpty()) {
+            return List.of();
+        }
+
+        int renderGeneration;
+        synchronized (this) {
+            List<String> lore = entries.get(enchantments);
+            if (lore != null) {
+                hits.increment();
+                return lore;
+            }
+            renderGeneration = generation;
+        }
+
+        misses.increment();
+        List<String> lore = render(enchantments);
+
+        synchronized (this) {
+            if (renderGeneration == generation) {
+                entries.put(enchantments, lore);
+            }
+        }
+        return lore;
+    }
+
+    /**
+     * Render lore lines without touching the cache
+     */
+    private List<String> render(EnchantmentSet enchantments) {
+        EnchantmentManager manager = HyFactionsEnchanter.getInstance().getEnchantmentManager();
+
+        List<String> lore = new ArrayList<>(enchantments.size() + 2);
+        lore.add("");
+        lore.add(HEADER);
+        for (int i = 0; i < enchantments.size(); i++) {
+            int ordinal = enchantments.ordinalAt(i);
+            CustomEnchantment enchantment = manager.getEnchantment(ordinal);
+
+            // Enchantments no longer registered keep their ID so the item still shows them
+            String displayName = enchantment != null ? enchantment.getFormattedDisplayName()
+                    : "§7" + manager.getOrdinals().idOf(ordinal);
+            lore.add("§7• " + displayName + " " + ItemUtil.getRomanNumeral(enchantments.levelAt(i)));
+        }
+        return Collections.unmodifiableList(lore);
+    }
+
+    /**
+     * Drop every rendered entry
+     */
+    public synchronized void clear() {
+        entries.clear();
+        generation++;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+}
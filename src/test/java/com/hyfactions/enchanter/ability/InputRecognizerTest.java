@@ -0,0 +1,103 @@
+package com.hyfactions.enchanter.ability;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Gesture and combo recognition against the default ELEMENTAL_FURY combo
+ */
+class InputRecognizerTest {
+
+    private static final long STEP_WINDOW = 10;
+    private static final long COMBO_WINDOW = 30;
+    private static final long DOUBLE_SNEAK_WINDOW = 8;
+
+    private ComboAutomaton combos;
+    private InputRecognizer inputs;
+    private long tick;
+
+    @BeforeEach
+    void setUp() {
+        MagicalAbility elementalFury = MagicalAbility.builder()
+                .id("ELEMENTAL_FURY")
+                .trigger(AbilityTrigger.RIGHT_CLICK)
+                .itemType("WEAPON")
+                .comboKeys(List.of("SNEAK", "RIGHT_CLICK", "RIGHT_CLICK"))
+                .build();
+
+        AbilityIndex index = AbilityIndex.build(Map.of("ELEMENTAL_FURY", elementalFury),
+                Map.of("ELEMENTAL_FURY", 0), null);
+        combos = index.getCombos();
+        inputs = new InputRecognizer();
+        tick = 100;
+    }
+
+    private void press(InputKey key) {
+        inputs.record(key, tick++, combos, STEP_WINDOW, DOUBLE_SNEAK_WINDOW);
+    }
+
+    @Test
+    void comboStepsHoldTheirGesturesUntilTheComboCompletes() {
+        inputs.setSneaking(true);
+
+        press(InputKey.SNEAK);
+        assertEquals(AbilityTrigger.SNEAK, inputs.getGesture());
+        assertTrue(inputs.isDeferred());
+
+        press(InputKey.RIGHT_CLICK);
+        assertEquals(AbilityTrigger.SNEAK_RIGHT_CLICK, inputs.getGesture());
+        assertTrue(inputs.isDeferred());
+        assertNull(inputs.getReleased());
+
+        press(InputKey.RIGHT_CLICK);
+        assertNull(inputs.getReleased());
+        assertFalse(inputs.isDeferred());
+
+        AbilityIndex.Candidate[] matches = combos.getMatches(inputs.getState());
+        assertEquals(1, matches.length);
+        assertEquals("ELEMENTAL_FURY", matches[0].getAbility().getId());
+        assertTrue(inputs.fitsWindow(matches[0].getComboKeys().length, COMBO_WINDOW));
+
+        // Nothing left to fire once the combo went off
+        inputs.resetCombo();
+        assertNull(inputs.takeExpired(tick + STEP_WINDOW, STEP_WINDOW));
+    }
+
+    @Test
+    void rightClickFromIdleFiresAtOnce() {
+        press(InputKey.RIGHT_CLICK);
+
+        assertEquals(AbilityTrigger.RIGHT_CLICK, inputs.getGesture());
+        assertFalse(inputs.isDeferred());
+        assertNull(inputs.getReleased());
+    }
+
+    @Test
+    void breakingTheComboReleasesTheHeldGesture() {
+        press(InputKey.SNEAK);
+        assertTrue(inputs.isDeferred());
+
+        press(InputKey.LEFT_CLICK);
+        assertEquals(AbilityTrigger.SNEAK, inputs.getReleased());
+        assertEquals(AbilityTrigger.LEFT_CLICK, inputs.getGesture());
+        assertFalse(inputs.isDeferred());
+    }
+
+    @Test
+    void heldGestureFiresOnceTheStepWindowCloses() {
+        press(InputKey.SNEAK);
+        press(InputKey.SNEAK);
+        assertEquals(AbilityTrigger.DOUBLE_SNEAK, inputs.getGesture());
+        assertTrue(inputs.isDeferred());
+
+        long last = tick - 1;
+        assertNull(inputs.takeExpired(last + STEP_WINDOW - 1, STEP_WINDOW));
+        assertEquals(AbilityTrigger.DOUBLE_SNEAK, inputs.takeExpired(last + STEP_WINDOW, STEP_WINDOW));
+        assertNull(inputs.takeExpired(last + STEP_WINDOW, STEP_WINDOW));
+    }
+}